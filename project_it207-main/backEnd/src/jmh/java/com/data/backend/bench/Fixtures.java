@@ -0,0 +1,114 @@
+package com.data.backend.bench;
+
+import com.data.backend.model.entity.*;
+import com.data.backend.model.money.Money;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Deterministic in-memory entity graphs shared by the benchmarks.
+public final class Fixtures {
+    public static final long SEED = 20240501L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 5, 1, 9, 0);
+    private static final String[] WORDS = {
+            "Áo", "thun", "nam", "nữ", "cotton", "quần", "jean", "váy", "đầm", "giày",
+            "thể", "thao", "túi", "xách", "mũ", "len", "khoác", "gió", "sơ", "mi"
+    };
+
+    private Fixtures() {
+    }
+
+    public static List<Category> categories(int count) {
+        List<Category> categories = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Category category = new Category();
+            category.setId((long) i);
+            category.setName("Danh mục " + i);
+            category.setCategoryUrl("danh-muc-" + i);
+            categories.add(category);
+        }
+        return categories;
+    }
+
+    public static List<Product> products(int count, List<Category> categories) {
+        Random random = new Random(SEED);
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Product product = new Product();
+            product.setId((long) i);
+            product.setName(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i);
+            product.setDescription("Mô tả sản phẩm " + i);
+            product.setPrice(Money.ofMinor(1_000_00L + random.nextInt(2_000_000) * 100L));
+            product.setQuantity(random.nextInt(500));
+            product.setCategory(categories.get(random.nextInt(categories.size())));
+            product.setImageUrl("https://res.cloudinary.com/demo/image/upload/p" + i + ".jpg");
+            product.setCreatedAt(BASE_TIME.plusMinutes(i));
+            product.setUpdatedAt(BASE_TIME.plusMinutes(i));
+            products.add(product);
+        }
+        return products;
+    }
+
+    public static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("user" + id);
+        user.setEmail("user" + id + "@example.com");
+        user.setActive(true);
+        return user;
+    }
+
+    public static Cart cart(User user, List<Product> products, int lines) {
+        Cart cart = new Cart();
+        cart.setId(user.getId());
+        cart.setUser(user);
+        List<CartItem> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            CartItem item = new CartItem();
+            item.setId((long) i + 1);
+            item.setCart(cart);
+            item.setProduct(products.get(i % products.size()));
+            item.setQuantity(1 + i % 3);
+            items.add(item);
+        }
+        cart.setItems(items);
+        return cart;
+    }
+
+    public static Order order(User user, List<Product> products, int lines) {
+        Order order = new Order();
+        order.setId(1L);
+        order.setUser(user);
+        order.setOrderDate(BASE_TIME);
+        List<OrderItem> items = new ArrayList<>(lines);
+        long total = 0L;
+        for (int i = 0; i < lines; i++) {
+            Product product = products.get(i % products.size());
+            OrderItem item = new OrderItem();
+            item.setId((long) i + 1);
+            item.setOrder(order);
+            item.setProduct(product);
+            item.setQuantity(1 + i % 3);
+            item.setPricePerUnit(product.getPrice());
+            total += item.getPricePerUnit().timesMinor(item.getQuantity());
+            items.add(item);
+        }
+        order.setOrderItems(items);
+        order.setTotalAmount(Money.ofMinor(total));
+        List<OrderTracking> tracking = new ArrayList<>();
+        String[] statuses = {"PENDING", "PROCESSING", "SHIPPED"};
+        for (int i = 0; i < statuses.length; i++) {
+            OrderTracking track = new OrderTracking();
+            track.setId((long) i + 1);
+            track.setOrder(order);
+            track.setStatus(statuses[i]);
+            track.setLocation("Warehouse");
+            track.setTimestamp(BASE_TIME.plusHours(i));
+            tracking.add(track);
+        }
+        order.setTrackingHistory(tracking);
+        return order;
+    }
+}
@@ -0,0 +1,133 @@
+package com.data.backend.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.MDC;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// Log output of one product-listing request under the default configuration vs application-prod + logback-spring.xml.
+// current:   DEBUG for com.data/security, SQL echoed pretty-printed, synchronous pattern appender
+// prod-sync: INFO/WARN levels, JSON encoder, synchronous
+// prod:      INFO/WARN levels, JSON encoder behind the bounded neverBlock AsyncAppender
+// Output goes to a temp file so every event pays a real write, as it does on stdout.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class LoggingBenchmark {
+    private static final String SQL = """
+            select
+                p1_0.id,
+                p1_0.category_id,
+                p1_0.created_at,
+                p1_0.description,
+                p1_0.image_url,
+                p1_0.name,
+                p1_0.price,
+                p1_0.quantity,
+                p1_0.updated_at\s
+            from
+                products p1_0\s
+            limit
+                ?, ?""";
+
+    @Param({"current", "prod-sync", "prod"})
+    private String mode;
+
+    private LoggerContext context;
+    private File sink;
+    private Logger sqlLogger;
+    private Logger securityLogger;
+    private Logger serviceLogger;
+
+    @Setup
+    public void setUp() throws IOException {
+        sink = File.createTempFile("logging-bench", ".log");
+        context = new LoggerContext();
+
+        Encoder<ILoggingEvent> encoder = mode.equals("current") ? patternEncoder() : jsonEncoder();
+        OutputStreamAppender<ILoggingEvent> file = new OutputStreamAppender<>();
+        file.setContext(context);
+        file.setEncoder(encoder);
+        file.setOutputStream(new FileOutputStream(sink));
+        file.start();
+
+        Appender<ILoggingEvent> root = file;
+        if (mode.equals("prod")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.addAppender(file);
+            async.start();
+            root = async;
+        }
+        context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).addAppender(root);
+        context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+
+        boolean debug = mode.equals("current");
+        context.getLogger("com.data").setLevel(debug ? Level.DEBUG : Level.INFO);
+        context.getLogger("org.springframework.security").setLevel(debug ? Level.DEBUG : Level.WARN);
+        context.getLogger("org.hibernate.SQL").setLevel(debug ? Level.DEBUG : Level.WARN);
+
+        sqlLogger = context.getLogger("org.hibernate.SQL");
+        securityLogger = context.getLogger("org.springframework.security.web.FilterChainProxy");
+        serviceLogger = context.getLogger("com.data.backend.service.product.ProductServiceImpl");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+        sink.delete();
+    }
+
+    @Benchmark
+    public void productListingRequest() {
+        MDC.put(RequestIdFilter.MDC_KEY, "3f9c2a7be41d0c55");
+        try {
+            securityLogger.debug("Securing GET /api/v1/products?page={}&size={}", 0, 20);
+            securityLogger.debug("Set SecurityContextHolder to anonymous SecurityContext");
+            securityLogger.debug("Secured GET /api/v1/products?page={}&size={}", 0, 20);
+            sqlLogger.debug(SQL);
+            sqlLogger.debug("select count(p1_0.id) from products p1_0");
+            sqlLogger.debug("select c1_0.id, c1_0.category_url, c1_0.name from categories c1_0 where c1_0.id=?");
+            serviceLogger.debug("Fetched {} products for page {}", 20, 0);
+            serviceLogger.info("Products fetched.");
+        } finally {
+            MDC.remove(RequestIdFilter.MDC_KEY);
+        }
+    }
+
+    private PatternLayoutEncoder patternEncoder() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        // Spring Boot's default console pattern, without colours
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p 1 --- [backEnd] [%15.15t] %-40.40logger{39} : %m%n");
+        encoder.start();
+        return encoder;
+    }
+
+    private LogstashEncoder jsonEncoder() {
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.setCustomFields("{\"app\":\"backEnd\"}");
+        encoder.start();
+        return encoder;
+    }
+}
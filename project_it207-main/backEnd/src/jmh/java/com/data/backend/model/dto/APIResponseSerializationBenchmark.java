@@ -0,0 +1,69 @@
+package com.data.backend.model.dto;
+
+import com.data.backend.bench.Fixtures;
+import com.data.backend.model.dto.response.ProductResponse;
+import com.data.backend.service.product.ProductServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class APIResponseSerializationBenchmark {
+    @Param({"20"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter compactWriter;
+    private ObjectWriter blackbirdWriter;
+    private LegacyResponse<Page<ProductResponse>> legacy;
+    private APIResponse<PageResponse<ProductResponse>> compact;
+
+    // The envelope as it was: enum status and a raw PageImpl.
+    public record LegacyResponse<T>(Boolean success, String message, T data, HttpStatus status) {
+    }
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        ProductServiceImpl productService = new ProductServiceImpl();
+        List<ProductResponse> content = Fixtures.products(pageSize, Fixtures.categories(10)).stream()
+                .map(productService::toProductResponse)
+                .toList();
+        Page<ProductResponse> page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+        legacy = new LegacyResponse<>(true, "Products fetched.", page, HttpStatus.OK);
+        compact = APIResponse.<PageResponse<ProductResponse>>builder()
+                .success(true).message("Products fetched.").data(PageResponse.of(page)).status(HttpStatus.OK).build();
+        compactWriter = objectMapper.writerFor(APIResponse.class);
+        blackbirdWriter = Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build()
+                .writerFor(APIResponse.class);
+    }
+
+    @Benchmark
+    public byte[] legacyEnvelope() throws Exception {
+        return objectMapper.writeValueAsBytes(legacy);
+    }
+
+    @Benchmark
+    public byte[] compactEnvelope() throws Exception {
+        return compactWriter.writeValueAsBytes(compact);
+    }
+
+    @Benchmark
+    public byte[] compactEnvelopeBlackbird() throws Exception {
+        return blackbirdWriter.writeValueAsBytes(compact);
+    }
+}
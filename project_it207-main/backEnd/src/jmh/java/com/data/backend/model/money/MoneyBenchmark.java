@@ -0,0 +1,67 @@
+package com.data.backend.model.money;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Cart/order total: Money (long minor units) vs BigDecimal vs the old double sum.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+    @Param({"5", "50"})
+    private int lines;
+
+    private Money[] moneyPrices;
+    private BigDecimal[] decimalPrices;
+    private double[] doublePrices;
+    private int[] quantities;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        moneyPrices = new Money[lines];
+        decimalPrices = new BigDecimal[lines];
+        doublePrices = new double[lines];
+        quantities = new int[lines];
+        for (int i = 0; i < lines; i++) {
+            long minor = 1_000L + random.nextInt(50_000_000);
+            moneyPrices[i] = Money.ofMinor(minor);
+            decimalPrices[i] = BigDecimal.valueOf(minor, Money.SCALE);
+            doublePrices[i] = (double) minor / Money.FACTOR;
+            quantities[i] = 1 + random.nextInt(5);
+        }
+    }
+
+    @Benchmark
+    public Money moneyTotal() {
+        long total = 0L;
+        for (int i = 0; i < lines; i++) {
+            total = Math.addExact(total, moneyPrices[i].timesMinor(quantities[i]));
+        }
+        return Money.ofMinor(total);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalTotal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < lines; i++) {
+            total = total.add(decimalPrices[i].multiply(BigDecimal.valueOf(quantities[i])));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double doubleTotal() {
+        double total = 0d;
+        for (int i = 0; i < lines; i++) {
+            total += doublePrices[i] * quantities[i];
+        }
+        return total;
+    }
+}
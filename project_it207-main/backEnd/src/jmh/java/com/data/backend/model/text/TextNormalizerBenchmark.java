@@ -0,0 +1,104 @@
+package com.data.backend.model.text;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+// Per-name cost over a Vietnamese catalogue sample; run with -prof gc for bytes allocated per name.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextNormalizerBenchmark {
+    private static final String[] NAMES = {
+            "Điện thoại iPhone 15 Pro Max 256GB - Chính hãng VN/A",
+            "Samsung Galaxy S24 Ultra 5G (12GB/256GB) Xám Titan",
+            "Áo thun nam cổ tròn tay ngắn 100% cotton",
+            "Quần jean nữ ống rộng lưng cao phong cách Hàn Quốc",
+            "Nồi cơm điện tử Sunhouse 1.8L SHD8955",
+            "Tủ lạnh Inverter Panasonic 322 lít NR-BC360QKVN",
+            "Máy giặt cửa trước LG Inverter 9 kg FV1409S4W",
+            "Sữa rửa mặt Cetaphil dịu nhẹ cho da nhạy cảm 500ml",
+            "Kem chống nắng La Roche-Posay Anthelios SPF50+",
+            "Giày thể thao nam Biti's Hunter X - Đen/Trắng",
+            "Bàn phím cơ không dây Logitech G Pro X TKL",
+            "Tai nghe chụp tai chống ồn Sony WH-1000XM5",
+            "Sạc dự phòng Anker 20.000mAh sạc nhanh PD 22.5W",
+            "Ốp lưng iPhone 15 trong suốt chống sốc",
+            "Đồng hồ thông minh Xiaomi Redmi Watch 4",
+            "Bình giữ nhiệt Lock&Lock 500ml inox 304",
+            "Gạo ST25 Ông Cua túi 5kg - đặc sản Sóc Trăng",
+            "Cà phê rang xay Trung Nguyên Sáng Tạo 1 (340g)",
+            "Nước mắm Phú Quốc 40 độ đạm chai thủy tinh 500ml",
+            "Bộ nồi inox 5 đáy Elmich Trimax 3 chiếc",
+            "Xe đạp thể thao trẻ em 16 inch có bánh phụ",
+            "Balo laptop chống nước 15.6 inch đa ngăn",
+            "Chuột không dây Logitech M331 Silent Plus",
+            "Màn hình Dell UltraSharp 27\" U2723QE 4K USB-C",
+            "Laptop ASUS Vivobook 15 OLED (i5-13500H/16GB/512GB)",
+            "Máy lọc không khí Xiaomi Smart Air Purifier 4",
+            "Sách \"Đắc nhân tâm\" - Dale Carnegie (Bìa mềm)",
+            "Vở ô li Hồng Hà 96 trang (lốc 10 quyển)",
+            "Dầu gội bưởi Cocoon giảm gãy rụng tóc 310ml",
+            "Khẩu trang y tế 4 lớp kháng khuẩn hộp 50 cái",
+            "Son kem lì 3CE Velvet Lip Tint màu đỏ gạch",
+            "Nệm cao su thiên nhiên Vạn Thành 160x200x10cm",
+    };
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private String[] decomposed;
+    private String[] queries;
+
+    @Setup
+    public void setUp() {
+        decomposed = new String[NAMES.length];
+        queries = new String[NAMES.length];
+        for (int i = 0; i < NAMES.length; i++) {
+            decomposed[i] = Normalizer.normalize(NAMES[i], Normalizer.Form.NFD);
+            queries[i] = TextNormalizer.normalize(NAMES[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(32)
+    public void normalize(Blackhole bh) {
+        for (String name : NAMES) {
+            bh.consume(TextNormalizer.normalize(name));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(32)
+    public void normalizeDecomposed(Blackhole bh) {
+        for (String name : decomposed) {
+            bh.consume(TextNormalizer.normalize(name));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(32)
+    public void normalizeAlreadyNormalized(Blackhole bh) {
+        for (String query : queries) {
+            bh.consume(TextNormalizer.normalize(query));
+        }
+    }
+
+    // The usual JDK recipe: NFD, strip marks, fold đ, lower-case, collapse separators.
+    @Benchmark
+    @OperationsPerInvocation(32)
+    public void jdkPipeline(Blackhole bh) {
+        for (String name : NAMES) {
+            String folded = MARKS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("")
+                    .replace('đ', 'd').replace('Đ', 'd').toLowerCase(Locale.ROOT);
+            bh.consume(SEPARATORS.matcher(folded).replaceAll(" ").trim());
+        }
+    }
+}
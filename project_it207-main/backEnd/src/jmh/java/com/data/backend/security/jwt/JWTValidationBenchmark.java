@@ -0,0 +1,40 @@
+package com.data.backend.security.jwt;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JWTValidationBenchmark {
+    private static final String SECRET = "ThisIsAReallyLongAndSecureSecretKeyForHS512_YouShouldChangeIt_EXTRA123";
+
+    private JWTProvider jwtProvider;
+    private String validToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JWTProvider();
+        ReflectionTestUtils.setField(jwtProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtProvider, "jwtExpire", 86_400_000L);
+        ReflectionTestUtils.setField(jwtProvider, "jwtRefresh", 604_800_000L);
+        validToken = jwtProvider.generateToken("user1");
+        tamperedToken = validToken.substring(0, validToken.length() - 2) + "xx";
+    }
+
+    @Benchmark
+    public boolean validToken() {
+        return jwtProvider.validateToken(validToken);
+    }
+
+    @Benchmark
+    public boolean tamperedToken() {
+        return jwtProvider.validateToken(tamperedToken);
+    }
+}
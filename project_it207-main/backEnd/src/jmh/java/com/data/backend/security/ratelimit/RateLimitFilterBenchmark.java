@@ -0,0 +1,66 @@
+package com.data.backend.security.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimitFilterBenchmark {
+    @Param({"1", "10000"})
+    private int clients;
+
+    private RateLimitFilter filter;
+    private RateLimitPolicy policy;
+    private MockHttpServletRequest[] requests;
+    private String[] keys;
+    private final FilterChain chain = (request, response) -> { };
+    private int next;
+
+    @Setup
+    public void setUp() {
+        // Limits high enough that every call is admitted; the cost measured is the bookkeeping.
+        List<String> specs = List.of("POST /api/v1/auth/** 1000000000/1s", "GET /api/v1/products/** 1000000000/1s", "* /api/** 1000000000/1s");
+        filter = new RateLimitFilter(true, specs, Jackson2ObjectMapperBuilder.json().build(), new SimpleMeterRegistry());
+        policy = RateLimitPolicy.parse(specs.get(1));
+        requests = new MockHttpServletRequest[clients];
+        keys = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            requests[i] = new MockHttpServletRequest("GET", "/api/v1/products");
+            requests[i].setRemoteAddr("10." + (i >> 16 & 255) + "." + (i >> 8 & 255) + "." + (i & 255));
+            keys[i] = requests[i].getRemoteAddr();
+        }
+    }
+
+    @Benchmark
+    public long acquire() {
+        return policy.acquire(keys[next++ % clients], System.nanoTime());
+    }
+
+    @Benchmark
+    public int filter() throws Exception {
+        MockHttpServletRequest request = requests[next++ % clients];
+        request.removeAttribute(RateLimitFilter.class.getName() + ".FILTERED");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public int baseline() throws Exception {
+        MockHttpServletRequest request = requests[next++ % clients];
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        chain.doFilter(request, response);
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,33 @@
+package com.data.backend.service.cart;
+
+import com.data.backend.bench.Fixtures;
+import com.data.backend.model.dto.response.CartResponse;
+import com.data.backend.model.entity.Cart;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CartMappingBenchmark {
+    @Param({"3", "30"})
+    private int lines;
+
+    private CartServiceImpl cartService;
+    private Cart cart;
+
+    @Setup
+    public void setUp() {
+        cartService = new CartServiceImpl();
+        cart = Fixtures.cart(Fixtures.user(1L), Fixtures.products(50, Fixtures.categories(5)), lines);
+    }
+
+    @Benchmark
+    public CartResponse mapCartToCartResponse() {
+        return cartService.mapCartToCartResponse(cart);
+    }
+}
@@ -0,0 +1,33 @@
+package com.data.backend.service.order;
+
+import com.data.backend.bench.Fixtures;
+import com.data.backend.model.dto.response.OrderDetailResponse;
+import com.data.backend.model.entity.Order;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMappingBenchmark {
+    @Param({"3", "30"})
+    private int lines;
+
+    private OrderServiceImpl orderService;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        orderService = new OrderServiceImpl();
+        order = Fixtures.order(Fixtures.user(1L), Fixtures.products(50, Fixtures.categories(5)), lines);
+    }
+
+    @Benchmark
+    public OrderDetailResponse mapOrderToDetailResponse() {
+        return orderService.mapOrderToDetailResponse(order);
+    }
+}
@@ -0,0 +1,39 @@
+package com.data.backend.service.product;
+
+import com.data.backend.bench.Fixtures;
+import com.data.backend.model.dto.response.ProductResponse;
+import com.data.backend.model.entity.Product;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductMappingBenchmark {
+    private ProductServiceImpl productService;
+    private List<Product> page;
+
+    @Setup
+    public void setUp() {
+        productService = new ProductServiceImpl();
+        page = Fixtures.products(20, Fixtures.categories(10));
+    }
+
+    @Benchmark
+    public ProductResponse toProductResponse() {
+        return productService.toProductResponse(page.get(0));
+    }
+
+    @Benchmark
+    public void toProductResponsePage(Blackhole blackhole) {
+        for (Product product : page) {
+            blackhole.consume(productService.toProductResponse(product));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.data.backend.service.product.facet;
+
+import com.data.backend.model.money.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductFacetIndexBenchmark {
+    @Param({"200000"})
+    private int products;
+
+    private ProductFacetIndex index;
+    private final FacetFilter none = new FacetFilter(null, null, null, false);
+    private final FacetFilter narrow = new FacetFilter(Set.of(3L, 7L), 500_000L * Money.FACTOR, 5_000_000L * Money.FACTOR, true);
+
+    @Setup
+    public void setUp() {
+        long[] bounds = {100_000, 200_000, 500_000, 1_000_000, 2_000_000, 5_000_000, 10_000_000, 20_000_000};
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] *= Money.FACTOR;
+        }
+        index = new ProductFacetIndex(bounds);
+        Random random = new Random(42);
+        List<ProductFacetRow> rows = new ArrayList<>(products);
+        for (long id = 1; id <= products; id++) {
+            long price = (20_000 + random.nextInt(30_000_000)) / 1000 * 1000;
+            rows.add(new ProductFacetRow(id, 1L + random.nextInt(30), Money.ofMinor(price * Money.FACTOR), random.nextInt(10) == 0 ? 0 : 1 + random.nextInt(50)));
+        }
+        index.putAll(rows);
+    }
+
+    @Benchmark
+    public ProductFacetIndex.Counts countsUnfiltered() {
+        return index.counts(none, null);
+    }
+
+    @Benchmark
+    public ProductFacetIndex.Counts countsCategoryAndPrice() {
+        return index.counts(narrow, null);
+    }
+
+    @Benchmark
+    public ProductFacetIndex.Page pageByPrice() {
+        return index.page(narrow, null, FacetSort.PRICE_ASC, 40, 20);
+    }
+
+    @Benchmark
+    public ProductFacetIndex.Page pageById() {
+        return index.page(narrow, null, FacetSort.ID_DESC, 40, 20);
+    }
+}
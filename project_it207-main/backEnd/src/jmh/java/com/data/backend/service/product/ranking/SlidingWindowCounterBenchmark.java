@@ -0,0 +1,50 @@
+package com.data.backend.service.product.ranking;
+
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlidingWindowCounterBenchmark {
+    private static final long HOUR = 3_600_000L;
+
+    @Param({"100000"})
+    private int products;
+
+    private SlidingWindowCounter counter;
+    private final Random random = new Random(7);
+    private long now;
+
+    // 24 hourly buckets, each with a view or sale for 20% of the catalog.
+    @Setup
+    public void setUp() {
+        counter = new SlidingWindowCounter(HOUR, 24);
+        now = System.currentTimeMillis();
+        Random seed = new Random(42);
+        for (int age = 23; age >= 0; age--) {
+            long at = now - age * HOUR;
+            for (int i = 0; i < products / 5; i++) {
+                counter.add(1 + seed.nextInt(products), 1, at);
+            }
+        }
+        counter.seal(now);
+    }
+
+    @Benchmark
+    public void recordView() {
+        counter.add(1 + random.nextInt(products), 1, now);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Long2DoubleOpenHashMap scoreWindow() {
+        return counter.scores(now, age -> Math.exp(-0.1155 * age));
+    }
+}
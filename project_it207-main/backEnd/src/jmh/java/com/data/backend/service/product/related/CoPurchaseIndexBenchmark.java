@@ -0,0 +1,60 @@
+package com.data.backend.service.product.related;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoPurchaseIndexBenchmark {
+    @Param({"50000"})
+    private int products;
+
+    @Param({"500000"})
+    private int orders;
+
+    private CoPurchaseIndex index;
+    private final Random random = new Random(7);
+    private long popular;
+
+    @Setup
+    public void setUp() {
+        index = new CoPurchaseIndex(20, 1, 50);
+        Random seed = new Random(42);
+        for (int o = 0; o < orders; o++) {
+            index.load(order(seed));
+        }
+        index.rankAll();
+        popular = 1;
+    }
+
+    @Benchmark
+    public long[] topPopular() {
+        return index.top(popular, 10);
+    }
+
+    @Benchmark
+    public long[] topRandom() {
+        return index.top(1 + random.nextInt(products), 10);
+    }
+
+    @Benchmark
+    public void addOrder() {
+        index.addOrder(order(random));
+    }
+
+    // Two to five items, skewed towards low ids so a few products share orders with thousands of others.
+    private long[] order(Random random) {
+        long[] ids = new long[2 + random.nextInt(4)];
+        for (int i = 0; i < ids.length; i++) {
+            double u = random.nextDouble();
+            ids[i] = 1 + (long) (products * u * u * u);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,106 @@
+package com.data.backend.service.product.suggest;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class SuggestIndexBenchmark {
+    private static final String[] BRANDS = {"Samsung", "Apple", "Xiaomi", "Oppo", "Vivo", "Sony", "Dell", "Asus", "Lenovo", "HP",
+            "Acer", "LG", "Panasonic", "Philips", "Sunhouse", "Logitech", "Anker", "Baseus", "Realme", "Nokia"};
+    private static final String[] TYPES = {"Điện thoại", "Laptop", "Máy tính bảng", "Tai nghe", "Sạc dự phòng", "Ốp lưng", "Cáp sạc",
+            "Loa bluetooth", "Đồng hồ thông minh", "Bàn phím", "Chuột không dây", "Màn hình", "Tủ lạnh", "Máy giặt", "Nồi cơm điện"};
+    private static final String[] TRAITS = {"Pro", "Max", "Ultra", "Lite", "Plus", "Mini", "5G", "256GB", "128GB", "Đen", "Trắng",
+            "Xanh", "Chính hãng", "2024", "Gaming", "Type-C", "Không dây", "Chống nước"};
+    private static final String[] SHORT = {"s", "d", "ma", "ta", "lo"};
+    private static final String[] WORD = {"sams", "lapt", "điện", "bluet", "chuột", "ultra", "256g", "xiao"};
+    private static final String[] PHRASE = {"samsung điện thoại", "tai nghe s", "máy tính bảng a", "chuột không dây log", "pro max 2"};
+
+    @Param({"1000000"})
+    private int names;
+
+    @Param({"0", "2000"})
+    private int overlay;
+
+    private List<SuggestRow> rows;
+    private SuggestIndex index;
+    private int next;
+
+    // Reported next to the build time. JMH sums events over all measured iterations, so build() measures one.
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class IndexSize {
+        public long indexMegabytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            indexMegabytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        rows = new ArrayList<>(names);
+        for (long id = 1; id <= names; id++) {
+            StringBuilder name = new StringBuilder()
+                    .append(TYPES[random.nextInt(TYPES.length)]).append(' ')
+                    .append(BRANDS[random.nextInt(BRANDS.length)]).append(' ')
+                    .append((char) ('A' + random.nextInt(26))).append(random.nextInt(1000));
+            for (int t = random.nextInt(3); t > 0; t--) {
+                name.append(' ').append(TRAITS[random.nextInt(TRAITS.length)]);
+            }
+            // Long-tailed popularity: most products sell little, a few sell a lot.
+            long sold = (long) Math.floor(Math.pow(random.nextDouble(), 8) * 100_000);
+            rows.add(new SuggestRow(id, name.toString(), sold));
+        }
+        index = SuggestIndex.build(rows);
+        List<Long> changed = new ArrayList<>();
+        List<SuggestRow> changedRows = new ArrayList<>();
+        for (int i = 0; i < overlay; i++) {
+            SuggestRow row = rows.get(random.nextInt(names));
+            changed.add(row.id());
+            changedRows.add(new SuggestRow(row.id(), row.name(), row.popularity() + 1));
+        }
+        index.apply(changed, changedRows);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 1)
+    public SuggestIndex build(IndexSize size) {
+        SuggestIndex built = SuggestIndex.build(rows);
+        size.indexMegabytes += built.memoryBytes() / (1024 * 1024);
+        return built;
+    }
+
+    @Benchmark
+    public List<SuggestIndex.Match> shortPrefix() {
+        return index.top(SHORT[next++ % SHORT.length], 8);
+    }
+
+    @Benchmark
+    public List<SuggestIndex.Match> wordPrefix() {
+        return index.top(WORD[next++ % WORD.length], 8);
+    }
+
+    @Benchmark
+    public List<SuggestIndex.Match> phrasePrefix() {
+        return index.top(PHRASE[next++ % PHRASE.length], 8);
+    }
+
+    @Benchmark
+    public List<SuggestIndex.Match> miss() {
+        return index.top("qzx", 8);
+    }
+}
@@ -0,0 +1,188 @@
+package com.data.backend.loadtest;
+
+import com.data.backend.model.text.TextNormalizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Bulk JDBC seeding; ids are assigned explicitly so later phases can reference them without lookups.
+class DataSeeder {
+    private static final Logger log = LoggerFactory.getLogger(DataSeeder.class);
+    private static final int BATCH = 2_000;
+    static final int ORDER_DAYS = 90;
+    private static final String[] ADJECTIVES = {"Áo", "Quần", "Váy", "Giày", "Túi", "Mũ", "Đầm", "Khăn", "Ví", "Balo"};
+    private static final String[] NOUNS = {"thun", "jean", "kaki", "lụa", "len", "da", "thể thao", "công sở", "dạ hội", "du lịch"};
+    private static final String[] COLORS = {"đen", "trắng", "xanh", "đỏ", "vàng", "hồng", "nâu", "xám"};
+
+    private final JdbcTemplate jdbc;
+    private final LoadTestConfig config;
+    private final Random random;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    DataSeeder(JdbcTemplate jdbc, LoadTestConfig config) {
+        this.jdbc = jdbc;
+        this.config = config;
+        this.random = new Random(config.seed());
+    }
+
+    void seed() {
+        long started = System.nanoTime();
+        seedRoles();
+        seedCategories();
+        seedProducts();
+        seedUsers();
+        seedCarts();
+        seedOrders();
+        log.info("Seeded {} products, {} users, {} carts, {} orders in {} ms", config.products(), config.users(),
+                config.cartsWithItems(), config.orders(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void seedRoles() {
+        jdbc.update("INSERT INTO roles (id, role_name) VALUES (1, 'ROLE_USER'), (2, 'ROLE_ADMIN')");
+    }
+
+    private void seedCategories() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 1; i <= config.categories(); i++) {
+            rows.add(new Object[]{i, "Danh mục " + i, "danh-muc-" + i});
+        }
+        jdbc.batchUpdate("INSERT INTO categories (id, name, category_url) VALUES (?, ?, ?)", rows);
+    }
+
+    private void seedProducts() {
+        List<Object[]> rows = new ArrayList<>(BATCH);
+        for (int i = 1; i <= config.products(); i++) {
+            Timestamp created = Timestamp.valueOf(now.minusMinutes(config.products() - i));
+            String name = productName(i);
+            rows.add(new Object[]{i, name, TextNormalizer.normalize(name), "Sản phẩm mẫu số " + i,
+                    BigDecimal.valueOf(10_000L + random.nextInt(2_000) * 1_000L), 1_000 + random.nextInt(9_000),
+                    1 + random.nextInt(config.categories()), "https://res.cloudinary.com/demo/image/upload/p" + i + ".jpg",
+                    created, created});
+            if (rows.size() == BATCH) {
+                insertProducts(rows);
+            }
+        }
+        insertProducts(rows);
+    }
+
+    private void insertProducts(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbc.batchUpdate("INSERT INTO products (id, name, normalized_name, description, price, quantity, category_id, image_url, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+
+    private void seedUsers() {
+        // One BCrypt hash for everybody; hashing 10k passwords would dominate seeding time.
+        String hash = new BCryptPasswordEncoder().encode(LoadTestConfig.PASSWORD);
+        List<Object[]> users = new ArrayList<>(BATCH);
+        List<Object[]> roles = new ArrayList<>(BATCH);
+        for (int i = 1; i <= config.users(); i++) {
+            users.add(new Object[]{i, username(i), hash, username(i) + "@loadtest.local", true});
+            roles.add(new Object[]{i, 1});
+            if (users.size() == BATCH) {
+                insertUsers(users, roles);
+            }
+        }
+        insertUsers(users, roles);
+    }
+
+    private void insertUsers(List<Object[]> users, List<Object[]> roles) {
+        if (users.isEmpty()) {
+            return;
+        }
+        jdbc.batchUpdate("INSERT INTO users (id, username, password, email, is_active) VALUES (?, ?, ?, ?, ?)", users);
+        jdbc.batchUpdate("INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)", roles);
+        users.clear();
+        roles.clear();
+    }
+
+    private void seedCarts() {
+        List<Object[]> carts = new ArrayList<>();
+        List<Object[]> items = new ArrayList<>();
+        long itemId = 1;
+        for (int i = 1; i <= config.cartsWithItems(); i++) {
+            // Spread over twice the default expiry window, so about half the carts are abandoned.
+            carts.add(new Object[]{i, i, Timestamp.valueOf(now.minusMinutes(random.nextInt(60 * 24 * 60)))});
+            int lines = 1 + random.nextInt(4);
+            for (int l = 0; l < lines; l++) {
+                items.add(new Object[]{itemId++, i, randomProductId(), 1 + random.nextInt(3)});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO carts (id, user_id, updated_at) VALUES (?, ?, ?)", carts);
+        jdbc.batchUpdate("INSERT INTO cart_items (id, cart_id, product_id, quantity) VALUES (?, ?, ?, ?)", items);
+    }
+
+    private void seedOrders() {
+        List<Object[]> orders = new ArrayList<>(BATCH);
+        List<Object[]> items = new ArrayList<>(BATCH * 3);
+        List<Object[]> tracking = new ArrayList<>(BATCH);
+        long itemId = 1;
+        for (int i = 1; i <= config.orders(); i++) {
+            Timestamp orderDate = Timestamp.valueOf(now.minusMinutes(random.nextInt(60 * 24 * ORDER_DAYS)));
+            int lines = 1 + random.nextInt(4);
+            BigDecimal total = BigDecimal.ZERO;
+            for (int l = 0; l < lines; l++) {
+                BigDecimal price = BigDecimal.valueOf(10_000L + random.nextInt(2_000) * 1_000L);
+                int quantity = 1 + random.nextInt(3);
+                items.add(new Object[]{itemId++, i, randomProductId(), quantity, price});
+                total = total.add(price.multiply(BigDecimal.valueOf(quantity)));
+            }
+            orders.add(new Object[]{i, 1 + random.nextInt(config.users()), orderDate, total});
+            tracking.add(new Object[]{i, i, "PENDING", orderDate, "Warehouse"});
+            if (orders.size() == BATCH) {
+                insertOrders(orders, items, tracking);
+            }
+        }
+        insertOrders(orders, items, tracking);
+    }
+
+    private void insertOrders(List<Object[]> orders, List<Object[]> items, List<Object[]> tracking) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        jdbc.batchUpdate("INSERT INTO orders (id, user_id, order_date, total_amount) VALUES (?, ?, ?, ?)", orders);
+        jdbc.batchUpdate("INSERT INTO order_items (id, order_id, product_id, quantity, price_per_unit) VALUES (?, ?, ?, ?, ?)", items);
+        jdbc.batchUpdate("INSERT INTO order_tracking (id, order_id, status, timestamp, location) VALUES (?, ?, ?, ?, ?)", tracking);
+        orders.clear();
+        items.clear();
+        tracking.clear();
+    }
+
+    // H2 identity columns do not advance on explicit ids, so move them past the seeded rows (MySQL AUTO_INCREMENT does).
+    void resetIdentities() {
+        String database = jdbc.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"H2".equals(database)) {
+            return;
+        }
+        String[] tables = {"roles", "categories", "products", "users", "carts", "cart_items", "orders", "order_items", "order_tracking"};
+        for (String table : tables) {
+            Long max = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            jdbc.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (max + 1));
+        }
+    }
+
+    private long randomProductId() {
+        return 1 + random.nextInt(config.products());
+    }
+
+    static String username(int i) {
+        return "lt_user_" + i;
+    }
+
+    private String productName(int i) {
+        return ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + NOUNS[random.nextInt(NOUNS.length)] + " "
+                + COLORS[random.nextInt(COLORS.length)] + " " + i;
+    }
+}
@@ -0,0 +1,50 @@
+package com.data.backend.loadtest;
+
+import java.util.Arrays;
+
+// Per-thread, per-endpoint sample buffer; merged once the run is over so recording never contends.
+final class LatencyRecorder {
+    private long[] samples = new long[4_096];
+    private int size;
+    private long errors;
+
+    void record(long nanos, boolean success) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    void mergeInto(LatencyRecorder target) {
+        for (int i = 0; i < size; i++) {
+            target.record(samples[i], true);
+        }
+        target.errors += errors;
+    }
+
+    int count() {
+        return size;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    // Returns {p50, p95, p99, max} in microseconds.
+    long[] percentilesMicros() {
+        if (size == 0) {
+            return new long[4];
+        }
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return new long[]{at(sorted, 0.50), at(sorted, 0.95), at(sorted, 0.99), sorted[size - 1] / 1_000};
+    }
+
+    private static long at(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000;
+    }
+}
@@ -0,0 +1,46 @@
+package com.data.backend.loadtest;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+// All knobs come from -Ploadtest.* (forwarded as system properties by the loadTest task).
+record LoadTestConfig(
+        String baseUrl,
+        int products,
+        int categories,
+        int users,
+        int cartsWithItems,
+        int orders,
+        int threads,
+        int warmupSeconds,
+        int durationSeconds,
+        long seed,
+        List<String> profiles,
+        Path reportDir) {
+
+    static final String PASSWORD = "loadtest-pass";
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                System.getProperty("loadtest.baseUrl"),
+                Integer.getInteger("loadtest.products", 100_000),
+                Integer.getInteger("loadtest.categories", 60),
+                Integer.getInteger("loadtest.users", 10_000),
+                Integer.getInteger("loadtest.carts", 5_000),
+                Integer.getInteger("loadtest.orders", 20_000),
+                Integer.getInteger("loadtest.threads", 32),
+                Integer.getInteger("loadtest.warmup", 10),
+                Integer.getInteger("loadtest.duration", 60),
+                Long.getLong("loadtest.seed", 42L),
+                Arrays.stream(System.getProperty("loadtest.profiles", "").split(","))
+                        .map(String::trim)
+                        .filter(profile -> !profile.isEmpty())
+                        .toList(),
+                Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest")));
+    }
+
+    boolean bootsLocalServer() {
+        return baseUrl == null || baseUrl.isBlank();
+    }
+}
@@ -0,0 +1,246 @@
+package com.data.backend.loadtest;
+
+import com.data.backend.BackEndApplication;
+import com.data.backend.service.analytics.SalesRollupBackfill;
+import com.data.backend.service.product.facet.ProductFacetService;
+import com.data.backend.service.product.ranking.ProductRankingService;
+import com.data.backend.service.product.related.RelatedProductService;
+import com.data.backend.service.product.suggest.ProductSuggestService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public final class LoadTestRunner {
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String[] SEARCH_TERMS = {"áo", "quần", "thun", "jean", "đen", "giày", "túi", "len"};
+
+    private final LoadTestConfig config;
+    private final HttpClient http;
+    private final String baseUrl;
+
+    private LoadTestRunner(LoadTestConfig config, String baseUrl) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(4))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        ConfigurableApplicationContext context = null;
+        String baseUrl = config.baseUrl();
+        if (config.bootsLocalServer()) {
+            SpringApplication application = new SpringApplication(BackEndApplication.class);
+            List<String> profiles = new ArrayList<>(List.of("loadtest"));
+            profiles.addAll(config.profiles());
+            application.setAdditionalProfiles(profiles.toArray(String[]::new));
+            context = application.run("--server.port=0");
+            DataSeeder seeder = new DataSeeder(context.getBean(JdbcTemplate.class), config);
+            seeder.seed();
+            seeder.resetIdentities();
+            rebuildDerivedData(context);
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+        try {
+            new LoadTestRunner(config, baseUrl).run();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(0);
+    }
+
+    // These were built at startup from the then empty database.
+    private static void rebuildDerivedData(ConfigurableApplicationContext context) {
+        long started = System.nanoTime();
+        context.getBean(ProductFacetService.class).rebuild();
+        context.getBean(ProductSuggestService.class).rebuild();
+        context.getBean(RelatedProductService.class).rebuild();
+        context.getBean(ProductRankingService.class).reload();
+        context.getBean(SalesRollupBackfill.class).rebuild(LocalDate.now().minusDays(DataSeeder.ORDER_DAYS), LocalDate.now());
+        log.info("Rebuilt indexes, rankings and sales rollups in {} ms", (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void run() throws Exception {
+        log.info("Warming up for {}s against {}", config.warmupSeconds(), baseUrl);
+        drive(config.warmupSeconds());
+        log.info("Measuring for {}s with {} threads", config.durationSeconds(), config.threads());
+        long started = System.nanoTime();
+        Map<String, LatencyRecorder> results = drive(config.durationSeconds());
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+        report(results, elapsedSeconds);
+    }
+
+    private Map<String, LatencyRecorder> drive(int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        ExecutorService pool = Executors.newFixedThreadPool(config.threads());
+        List<VirtualUser> users = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(config.threads());
+        for (int t = 0; t < config.threads(); t++) {
+            VirtualUser user = new VirtualUser(t, new Random(config.seed() + t), deadline);
+            users.add(user);
+            pool.execute(() -> {
+                try {
+                    user.run();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        pool.shutdown();
+
+        Map<String, LatencyRecorder> merged = new TreeMap<>();
+        for (VirtualUser user : users) {
+            user.recorders.forEach((endpoint, recorder) ->
+                    recorder.mergeInto(merged.computeIfAbsent(endpoint, k -> new LatencyRecorder())));
+        }
+        return merged;
+    }
+
+    private void report(Map<String, LatencyRecorder> results, double elapsedSeconds) throws IOException {
+        StringBuilder table = new StringBuilder(String.format("%n%-28s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(us)", "p95(us)", "p99(us)", "max(us)"));
+        StringBuilder csv = new StringBuilder("endpoint,requests,errors,throughput,p50_us,p95_us,p99_us,max_us\n");
+        long total = 0;
+        for (Map.Entry<String, LatencyRecorder> entry : results.entrySet()) {
+            LatencyRecorder recorder = entry.getValue();
+            long[] p = recorder.percentilesMicros();
+            double throughput = recorder.count() / elapsedSeconds;
+            total += recorder.count();
+            table.append(String.format("%-28s %9d %7d %9.1f %9d %9d %9d %9d%n", entry.getKey(), recorder.count(),
+                    recorder.errors(), throughput, p[0], p[1], p[2], p[3]));
+            csv.append(String.format("%s,%d,%d,%.2f,%d,%d,%d,%d%n", entry.getKey(), recorder.count(),
+                    recorder.errors(), throughput, p[0], p[1], p[2], p[3]));
+        }
+        table.append(String.format("%-28s %9d %7s %9.1f%n", "TOTAL", total, "", total / elapsedSeconds));
+        log.info(table.toString());
+        Files.createDirectories(config.reportDir());
+        Files.writeString(config.reportDir().resolve("summary.csv"), csv);
+        log.info("Report written to {}", config.reportDir().resolve("summary.csv"));
+    }
+
+    private final class VirtualUser {
+        private final int index;
+        private final Random random;
+        private final long deadline;
+        private final Map<String, LatencyRecorder> recorders = new TreeMap<>();
+        private final String username;
+        private String token;
+
+        private VirtualUser(int index, Random random, long deadline) {
+            this.index = index;
+            this.random = random;
+            this.deadline = deadline;
+            this.username = DataSeeder.username(1 + index % config.users());
+        }
+
+        void run() {
+            token = login();
+            while (System.nanoTime() < deadline) {
+                int roll = random.nextInt(100);
+                if (roll < 30) {
+                    call("GET /products", get("/api/v1/products?page=" + random.nextInt(500) + "&size=20"));
+                } else if (roll < 40) {
+                    String term = SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)];
+                    call("GET /products?search", get("/api/v1/products?size=20&search=" + URLEncoder.encode(term, StandardCharsets.UTF_8)));
+                } else if (roll < 55) {
+                    call("GET /products/{id}", get("/api/v1/products/" + randomProductId()));
+                } else if (roll < 59) {
+                    String term = SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)];
+                    call("GET /products/suggest", get("/api/v1/products/suggest?q=" + URLEncoder.encode(term.substring(0, 2), StandardCharsets.UTF_8)));
+                } else if (roll < 62) {
+                    call("GET /products/{id}/related", get("/api/v1/products/" + randomProductId() + "/related"));
+                } else if (roll < 65) {
+                    call("GET /products/top", get("/api/v1/products/top?by=" + (random.nextBoolean() ? "bestselling" : "trending")));
+                } else if (roll < 75) {
+                    call("GET /cart", authorized(get("/api/v1/cart")));
+                } else if (roll < 92) {
+                    call("POST /cart", authorized(post("/api/v1/cart",
+                            "{\"productId\":" + randomProductId() + ",\"quantity\":1}")));
+                } else if (roll < 97) {
+                    call("POST /orders", authorized(post("/api/v1/orders", "")));
+                } else {
+                    token = login();
+                }
+            }
+        }
+
+        private String login() {
+            String body = "{\"username\":\"" + username + "\",\"password\":\"" + LoadTestConfig.PASSWORD + "\"}";
+            HttpResponse<String> response = call("POST /auth/login", post("/api/v1/auth/login", body));
+            if (response == null || response.statusCode() != 200) {
+                return token;
+            }
+            try {
+                JsonNode json = MAPPER.readTree(response.body());
+                return json.path("data").path("token").asText(token);
+            } catch (IOException ex) {
+                return token;
+            }
+        }
+
+        private HttpResponse<String> call(String endpoint, HttpRequest.Builder request) {
+            long started = System.nanoTime();
+            HttpResponse<String> response = null;
+            boolean success;
+            try {
+                response = http.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+                success = response.statusCode() < 400;
+            } catch (IOException ex) {
+                success = false;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                success = false;
+            }
+            recorders.computeIfAbsent(endpoint, k -> new LatencyRecorder()).record(System.nanoTime() - started, success);
+            return response;
+        }
+
+        private HttpRequest.Builder authorized(HttpRequest.Builder request) {
+            return token == null ? request : request.header("Authorization", "Bearer " + token);
+        }
+
+        private long randomProductId() {
+            return 1 + random.nextInt(config.products());
+        }
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+    }
+
+    private HttpRequest.Builder post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+}
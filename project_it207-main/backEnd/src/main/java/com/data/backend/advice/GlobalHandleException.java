@@ -1,6 +1,7 @@
 package com.data.backend.advice;
 
 import com.data.backend.model.dto.APIResponse;
+import com.data.backend.service.idempotency.IdempotencyConflictException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -29,6 +30,16 @@ public class GlobalHandleException {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<APIResponse<String>> handleIdempotencyConflict(IdempotencyConflictException ex) {
+        APIResponse<String> response = APIResponse.<String>builder()
+                .success(false)
+                .message(ex.getMessage())
+                .status(HttpStatus.CONFLICT)
+                .build();
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<APIResponse<String>> handleRuntimeException(RuntimeException ex) {
         APIResponse<String> response = APIResponse.<String>builder()
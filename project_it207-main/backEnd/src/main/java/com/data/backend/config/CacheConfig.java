@@ -0,0 +1,34 @@
+package com.data.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.jcache.JCacheCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import javax.cache.Caching;
+import java.io.IOException;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String USER_ADDRESSES = "userAddresses";
+
+    private static final String EHCACHE_PROVIDER = "org.ehcache.jsr107.EhcacheCachingProvider";
+
+    // Regions are sized and expired in ehcache.xml, next to the Hibernate ones.
+    @Bean(destroyMethod = "close")
+    public javax.cache.CacheManager jCacheManager(@Value("classpath:ehcache.xml") Resource config) throws IOException {
+        return Caching.getCachingProvider(EHCACHE_PROVIDER).getCacheManager(config.getURI(), getClass().getClassLoader());
+    }
+
+    // Evictions are deferred until the surrounding transaction commits.
+    @Bean
+    public CacheManager cacheManager(javax.cache.CacheManager jCacheManager) {
+        JCacheCacheManager cacheManager = new JCacheCacheManager(jCacheManager);
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
+    }
+}
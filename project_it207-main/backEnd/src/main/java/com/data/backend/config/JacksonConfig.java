@@ -0,0 +1,15 @@
+package com.data.backend.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+    // Picked up by Boot's ObjectMapper; property access goes through generated lambdas instead of reflection.
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
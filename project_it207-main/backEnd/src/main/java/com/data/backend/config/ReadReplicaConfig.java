@@ -0,0 +1,80 @@
+package com.data.backend.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+// With datasource_replica_urls set, @Transactional(readOnly = true) work reads from the replicas and everything else
+// goes to spring.datasource.url. The lazy proxy defers the physical connection until the first statement, by which
+// time the transaction has marked the connection read-only, and picks primary or replica from that flag.
+// Replicas share the primary's credentials and spring.datasource.hikari.* settings.
+@Configuration
+@ConditionalOnProperty(name = "datasource_replica_urls")
+public class ReadReplicaConfig implements DisposableBean {
+    private HikariDataSource primary;
+    private ReplicaPoolDataSource replicas;
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment,
+                                 @Value("${datasource_replica_urls}") List<String> replicaUrls,
+                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (primary.getPoolName() == null) {
+            primary.setPoolName("primary");
+        }
+
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            primary.copyStateTo(config);
+            config.setJdbcUrl(replicaUrls.get(i).trim());
+            config.setPoolName("replica-" + i);
+            config.setReadOnly(true);
+            // A replica that is down at startup is just marked unhealthy, and a dead one fails over quickly.
+            config.setInitializationFailTimeout(-1);
+            config.setConnectionTimeout(Math.min(config.getConnectionTimeout(), 1000));
+            meterRegistry.ifAvailable(registry -> config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            pools.add(new HikariDataSource(config));
+        }
+        replicas = new ReplicaPoolDataSource(pools, primary);
+
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+        routing.setReadOnlyDataSource(replicas);
+        return routing;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource_replica_health_interval:5000}")
+    public void checkReplicas() {
+        if (replicas != null) {
+            replicas.checkHealth();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (replicas != null) {
+            replicas.close();
+        }
+        if (primary != null) {
+            primary.close();
+        }
+    }
+}
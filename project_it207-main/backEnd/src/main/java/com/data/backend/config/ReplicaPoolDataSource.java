@@ -0,0 +1,93 @@
+package com.data.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Round-robin over the replica pools, skipping any that failed a connection or health check.
+// When every replica is down, reads fall back to the primary.
+@Slf4j
+public class ReplicaPoolDataSource extends AbstractDataSource implements Closeable {
+    private final List<Replica> replicas;
+    private final DataSource fallback;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaPoolDataSource(List<HikariDataSource> replicas, DataSource fallback) {
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                replica.markDown(e);
+            }
+        }
+        return fallback.getConnection();
+    }
+
+    // Hikari pools are bound to the configured credentials and refuse per-call ones, so this is never routable.
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica pools use the configured credentials");
+    }
+
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(2)) {
+                    replica.markUp();
+                } else {
+                    replica.markDown(null);
+                }
+            } catch (SQLException e) {
+                replica.markDown(e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private static final class Replica {
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private void markDown(SQLException cause) {
+            if (healthy) {
+                log.warn("Replica {} marked down: {}", dataSource.getPoolName(), cause != null ? cause.getMessage() : "validation failed");
+            }
+            healthy = false;
+        }
+
+        private void markUp() {
+            if (!healthy) {
+                log.info("Replica {} is back", dataSource.getPoolName());
+            }
+            healthy = true;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.data.backend.controller;
+
+import com.data.backend.model.dto.APIResponse;
+import com.data.backend.model.dto.response.SalesRollupResponse;
+import com.data.backend.service.analytics.SalesRange;
+import com.data.backend.service.analytics.SalesRollupBackfill;
+import com.data.backend.service.analytics.SalesRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Admin sales dashboard. Every read comes from the daily rollups, never from orders / order_items.
+@RestController
+@RequestMapping("/api/v1/admin/analytics")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AnalyticsController {
+    private final SalesRollupService salesRollupService;
+    private final SalesRollupBackfill salesRollupBackfill;
+
+    @Value("${sales_rollup_max_days:366}")
+    private int maxDays;
+
+    @GetMapping("/sales")
+    public ResponseEntity<APIResponse<List<SalesRollupResponse>>> getDailySales(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ok("Daily sales fetched.", salesRollupService.daily(SalesRange.of(from, to, maxDays)));
+    }
+
+    @GetMapping("/sales/categories")
+    public ResponseEntity<APIResponse<List<SalesRollupResponse>>> getCategorySales(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ok("Category sales fetched.", salesRollupService.byCategory(SalesRange.of(from, to, maxDays)));
+    }
+
+    @GetMapping("/sales/products")
+    public ResponseEntity<APIResponse<List<SalesRollupResponse>>> getTopProductSales(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ok("Product sales fetched.", salesRollupService.topProducts(SalesRange.of(from, to, maxDays), Math.max(1, Math.min(limit, 100))));
+    }
+
+    @GetMapping("/sales/products/{id}")
+    public ResponseEntity<APIResponse<List<SalesRollupResponse>>> getProductDailySales(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ok("Product daily sales fetched.", salesRollupService.productDaily(id, SalesRange.of(from, to, maxDays)));
+    }
+
+    // Recomputes the given days from orders; defaults to yesterday, which no longer takes orders.
+    @PostMapping("/sales/rebuild")
+    public ResponseEntity<APIResponse<Integer>> rebuildSales(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to == null ? LocalDate.now().minusDays(1) : to;
+        SalesRange range = SalesRange.of(from == null ? end : from, end, maxDays);
+        int days = salesRollupBackfill.rebuild(range.from(), range.to());
+        return ok("Sales rollups rebuilt.", days);
+    }
+
+    private static <T> ResponseEntity<APIResponse<T>> ok(String message, T data) {
+        return ResponseEntity.ok(APIResponse.<T>builder().success(true).message(message).data(data).status(HttpStatus.OK).build());
+    }
+}
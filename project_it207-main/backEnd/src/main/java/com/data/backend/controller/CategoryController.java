@@ -1,8 +1,10 @@
 package com.data.backend.controller;
 
 import com.data.backend.model.dto.APIResponse;
+import com.data.backend.model.dto.PageResponse;
 import com.data.backend.model.dto.request.CategoryRequest;
 import com.data.backend.model.dto.response.CategoryResponse;
+import com.data.backend.service.catalog.CatalogVersions;
 import com.data.backend.service.category.CategoryService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +13,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.*;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/categories")
@@ -18,12 +21,18 @@ import org.springframework.web.bind.annotation.*;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final CatalogVersions catalogVersions;
 
     @GetMapping
-    public ResponseEntity<APIResponse<Page<CategoryResponse>>> list(Pageable pageable) {
+    public ResponseEntity<APIResponse<PageResponse<CategoryResponse>>> list(Pageable pageable, WebRequest webRequest) {
+        // Product counts are part of the payload, so product changes count too.
+        String etag = catalogVersions.etag(CatalogVersions.Collection.CATEGORIES, CatalogVersions.Collection.PRODUCTS);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         Page<CategoryResponse> data = categoryService.findAll(pageable);
-        return ResponseEntity.ok(APIResponse.<Page<CategoryResponse>>builder()
-                .success(true).message("Categories fetched").data(data).status(HttpStatus.OK).build());
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(APIResponse.<PageResponse<CategoryResponse>>builder()
+                .success(true).message("Categories fetched").data(PageResponse.of(data)).status(HttpStatus.OK).build());
     }
 
     @GetMapping("/{id}")
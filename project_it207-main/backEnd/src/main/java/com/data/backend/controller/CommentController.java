@@ -3,14 +3,17 @@ package com.data.backend.controller;
 import com.data.backend.model.dto.APIResponse;
 import com.data.backend.model.dto.request.CommentRequest;
 import com.data.backend.model.dto.response.CommentResponse;
+import com.data.backend.service.catalog.CatalogVersions;
 import com.data.backend.service.comment.CommentService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 
 @RestController
@@ -19,8 +22,14 @@ public class CommentController {
     @Autowired
     private CommentService commentService;
 
+    @Autowired
+    private CatalogVersions catalogVersions;
+
     @GetMapping("/product/{productId}")
-    public ResponseEntity<APIResponse<List<CommentResponse>>> getCommentsForProduct(@PathVariable Long productId) {
+    public ResponseEntity<APIResponse<List<CommentResponse>>> getCommentsForProduct(@PathVariable Long productId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersions.etag(CatalogVersions.Collection.COMMENTS))) {
+            return null;
+        }
         List<CommentResponse> comments = commentService.getCommentsByProductId(productId);
         APIResponse<List<CommentResponse>> response = APIResponse.<List<CommentResponse>>builder()
                 .success(true)
@@ -28,7 +37,7 @@ public class CommentController {
                 .data(comments)
                 .status(HttpStatus.OK)
                 .build();
-        return new ResponseEntity<>(response, HttpStatus.OK);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
     }
 
     @PostMapping
@@ -0,0 +1,54 @@
+package com.data.backend.controller;
+
+import com.data.backend.service.export.ExportFormat;
+import com.data.backend.service.export.ExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.zip.GZIPOutputStream;
+
+// Downloads are written straight to the response as .csv.gz / .jsonl.gz while the query streams.
+@RestController
+@RequestMapping("/api/v1/export")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class ExportController {
+    private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final ExportService exportService;
+
+    @GetMapping("/products")
+    public void exportProducts(@RequestParam(defaultValue = "csv") String format, HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        try (OutputStream out = open(response, "products", exportFormat)) {
+            exportService.exportProducts(out, exportFormat);
+        }
+    }
+
+    @GetMapping("/orders")
+    public void exportOrders(@RequestParam(defaultValue = "csv") String format, HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        try (OutputStream out = open(response, "orders", exportFormat)) {
+            exportService.exportOrders(out, exportFormat);
+        }
+    }
+
+    private OutputStream open(HttpServletResponse response, String name, ExportFormat format) throws IOException {
+        String fileName = name + "-" + LocalDateTime.now().format(STAMP) + "." + format.getExtension() + ".gz";
+        response.setContentType("application/gzip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        return new GZIPOutputStream(response.getOutputStream(), 64 * 1024);
+    }
+}
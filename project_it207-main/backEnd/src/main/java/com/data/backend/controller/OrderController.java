@@ -2,6 +2,7 @@ package com.data.backend.controller;
 
 import com.data.backend.model.dto.APIResponse;
 import com.data.backend.model.dto.response.OrderDetailResponse;
+import com.data.backend.service.idempotency.IdempotencyService;
 import com.data.backend.service.order.OrderService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -13,9 +14,11 @@ import java.util.List;
 @RequestMapping("/api/v1/orders")
 public class OrderController {
     @Autowired private OrderService orderService;
+    @Autowired private IdempotencyService idempotencyService;
     @PostMapping
-    public ResponseEntity<APIResponse<OrderDetailResponse>> createOrder(Authentication authentication) {
-        OrderDetailResponse order = orderService.createOrderFromCart(authentication.getName());
+    public ResponseEntity<APIResponse<OrderDetailResponse>> createOrder(Authentication authentication, @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        String username = authentication.getName();
+        OrderDetailResponse order = idempotencyService.execute("orders:" + username, idempotencyKey, () -> orderService.createOrderFromCart(username));
         return new ResponseEntity<>(APIResponse.<OrderDetailResponse>builder().success(true).message("Order created successfully.").data(order).status(HttpStatus.CREATED).build(), HttpStatus.CREATED);
     }
     @GetMapping
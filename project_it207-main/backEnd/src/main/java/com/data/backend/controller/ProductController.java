@@ -1,20 +1,41 @@
 package com.data.backend.controller;
 
 import com.data.backend.model.dto.APIResponse;
+import com.data.backend.model.dto.PageResponse;
 import com.data.backend.model.dto.request.ProductRequest;
+import com.data.backend.model.dto.response.ProductFacetsResponse;
 import com.data.backend.model.dto.response.ProductResponse;
+import com.data.backend.model.dto.response.SuggestionResponse;
 import com.data.backend.model.entity.Product;
+import com.data.backend.model.money.Money;
+import com.data.backend.security.principal.CustomUserDetails;
+import com.data.backend.service.catalog.CatalogVersions;
 import com.data.backend.service.product.ProductService;
 import com.data.backend.service.product.ProductServiceImpl;
+import com.data.backend.service.product.facet.FacetFilter;
+import com.data.backend.service.product.facet.ProductFacetService;
+import com.data.backend.service.product.ranking.ProductRanking;
+import com.data.backend.service.product.ranking.ProductRankingService;
+import com.data.backend.service.product.related.RelatedProductService;
+import com.data.backend.service.product.suggest.ProductSuggestService;
+import com.data.backend.service.wish.WishlistMembershipCache;
+import com.data.backend.service.wish.WishlistService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.*;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/v1/products")
@@ -25,17 +46,146 @@ public class ProductController {
     @Autowired
     private ProductServiceImpl productServiceImpl;
 
+    @Autowired
+    private WishlistService wishlistService;
+
+    @Autowired
+    private WishlistMembershipCache wishlistMembershipCache;
+
+    @Autowired
+    private CatalogVersions catalogVersions;
+
+    @Autowired
+    private ProductFacetService productFacetService;
+
+    @Autowired
+    private ProductSuggestService productSuggestService;
+
+    @Autowired
+    private RelatedProductService relatedProductService;
+
+    @Autowired
+    private ProductRankingService productRankingService;
+
     @GetMapping
-    public ResponseEntity<APIResponse<Page<ProductResponse>>> getProducts(
+    public ResponseEntity<APIResponse<PageResponse<ProductResponse>>> getProducts(
             Pageable pageable,
-            @RequestParam(required = false) String search) {
-        Page<ProductResponse> products = productServiceImpl.findAllAsResponse(pageable, search);
-        return new ResponseEntity<>(APIResponse.<Page<ProductResponse>>builder().success(true).message("Products fetched.").data(products).status(HttpStatus.OK).build(), HttpStatus.OK);
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) List<Long> categoryId,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "false") boolean inStock,
+            Authentication authentication,
+            WebRequest webRequest) {
+        // Checked before the product queries; signed-in users also see their wishlist flags, versioned per user.
+        Long userId = authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails
+                ? userDetails.getUser().getId() : null;
+        // Ranked sorts also depend on the rankings, which move with views and time rather than catalog writes.
+        ProductRanking ranking = ProductRanking.of(pageable.getSort());
+        List<Object> tagParts = new ArrayList<>(List.of(CatalogVersions.Collection.PRODUCTS, CatalogVersions.Collection.CATEGORIES));
+        if (ranking != null) {
+            tagParts.add("k" + productRankingService.generation());
+        }
+        if (userId != null) {
+            tagParts.add("u" + userId);
+            tagParts.add(wishlistMembershipCache.version(userId));
+        }
+        String etag = catalogVersions.etag(tagParts.toArray());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        FacetFilter filter = facetFilter(categoryId, minPrice, maxPrice, inStock);
+        Page<ProductResponse> products = ranking != null
+                ? productServiceImpl.findRankedAsResponse(pageable, search, filter, ranking)
+                : filter.isEmpty()
+                ? productServiceImpl.findAllAsResponse(pageable, search)
+                : productServiceImpl.findFilteredAsResponse(pageable, search, filter);
+        if (userId != null) {
+            wishlistService.markWishlisted(userId, products.getContent());
+        }
+        return ResponseEntity.ok()
+                .cacheControl(userId == null ? CacheControl.noCache() : CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .body(APIResponse.<PageResponse<ProductResponse>>builder().success(true).message("Products fetched.").data(PageResponse.of(products)).status(HttpStatus.OK).build());
+    }
+    @GetMapping("/facets")
+    public ResponseEntity<APIResponse<ProductFacetsResponse>> getFacets(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) List<Long> categoryId,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "false") boolean inStock,
+            WebRequest webRequest) {
+        String etag = catalogVersions.etag(CatalogVersions.Collection.PRODUCTS, CatalogVersions.Collection.CATEGORIES);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        ProductFacetsResponse facets = productFacetService.facets(facetFilter(categoryId, minPrice, maxPrice, inStock),
+                productServiceImpl.searchBitmap(search));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(APIResponse.<ProductFacetsResponse>builder().success(true).message("Product facets fetched.").data(facets).status(HttpStatus.OK).build());
+    }
+    @GetMapping("/suggest")
+    public ResponseEntity<APIResponse<List<SuggestionResponse>>> suggest(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "8") int limit,
+            WebRequest webRequest) {
+        // Served from memory, no SQL; typeahead clients revalidate against the catalog versions.
+        String etag = catalogVersions.etag(CatalogVersions.Collection.PRODUCTS, CatalogVersions.Collection.CATEGORIES);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        List<SuggestionResponse> suggestions = productSuggestService.suggest(q, Math.max(1, Math.min(limit, 20)));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(APIResponse.<List<SuggestionResponse>>builder().success(true).message("Suggestions fetched.").data(suggestions).status(HttpStatus.OK).build());
+    }
+    @GetMapping("/top")
+    public ResponseEntity<APIResponse<List<ProductResponse>>> getTopProducts(
+            @RequestParam(defaultValue = "bestselling") String by,
+            @RequestParam(defaultValue = "10") int limit,
+            WebRequest webRequest) {
+        ProductRanking ranking = ProductRanking.parse(by);
+        String etag = catalogVersions.etag(CatalogVersions.Collection.PRODUCTS, CatalogVersions.Collection.CATEGORIES, "k" + productRankingService.generation(), ranking);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        List<ProductResponse> top = productServiceImpl.findAllByIdsAsResponse(productRankingService.top(ranking, Math.max(1, Math.min(limit, 50))));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(APIResponse.<List<ProductResponse>>builder().success(true).message("Top products fetched.").data(top).status(HttpStatus.OK).build());
     }
     @GetMapping("/{id}")
-    public ResponseEntity<APIResponse<ProductResponse>> getProductDetails(@PathVariable Long id) {
-        ProductResponse product = productServiceImpl.findByIdAsResponse(id);
-        return new ResponseEntity<>(APIResponse.<ProductResponse>builder().success(true).message("Product details fetched.").data(product).status(HttpStatus.OK).build(), HttpStatus.OK);
+    public ResponseEntity<APIResponse<ProductResponse>> getProductDetails(@PathVariable Long id, WebRequest webRequest) {
+        // The product usually comes from the second-level cache, so a 304 costs no SQL and no serialization.
+        Product entity = productServiceImpl.findById(id);
+        productRankingService.recordView(id);
+        String etag = catalogVersions.etag(CatalogVersions.Collection.CATEGORIES, "p" + id, entity.getUpdatedAt());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        ProductResponse product = productServiceImpl.toProductResponse(entity);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(APIResponse.<ProductResponse>builder().success(true).message("Product details fetched.").data(product).status(HttpStatus.OK).build());
+    }
+    @GetMapping("/{id}/related")
+    public ResponseEntity<APIResponse<List<ProductResponse>>> getRelatedProducts(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit,
+            WebRequest webRequest) {
+        // Rankings move with orders, which also bump the products version.
+        productServiceImpl.findById(id);
+        String etag = catalogVersions.etag(CatalogVersions.Collection.PRODUCTS, CatalogVersions.Collection.CATEGORIES, "r" + id);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        long[] relatedIds = relatedProductService.related(id, Math.max(1, Math.min(limit, 20)));
+        List<ProductResponse> related = productServiceImpl.findAllByIdsAsResponse(Arrays.stream(relatedIds).boxed().toList());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(APIResponse.<List<ProductResponse>>builder().success(true).message("Related products fetched.").data(related).status(HttpStatus.OK).build());
     }
     @PostMapping(consumes = { MediaType.MULTIPART_FORM_DATA_VALUE })
     @PreAuthorize("hasRole('ADMIN')")
@@ -44,4 +194,12 @@ public class ProductController {
         ProductResponse productResponse = productServiceImpl.toProductResponse(savedProduct);
         return new ResponseEntity<>(APIResponse.<ProductResponse>builder().success(true).message("Product created.").data(productResponse).status(HttpStatus.CREATED).build(), HttpStatus.CREATED);
     }
+
+    private static FacetFilter facetFilter(List<Long> categoryIds, BigDecimal minPrice, BigDecimal maxPrice, boolean inStock) {
+        return new FacetFilter(
+                categoryIds == null ? null : Set.copyOf(categoryIds),
+                minPrice == null ? null : Money.of(minPrice).getMinorUnits(),
+                maxPrice == null ? null : Money.of(maxPrice).getMinorUnits(),
+                inStock);
+    }
 }
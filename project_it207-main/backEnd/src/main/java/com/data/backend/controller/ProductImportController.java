@@ -0,0 +1,42 @@
+package com.data.backend.controller;
+
+import com.data.backend.model.dto.APIResponse;
+import com.data.backend.model.dto.response.ProductImportJobResponse;
+import com.data.backend.service.product.bulk.ProductImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/v1/products/import")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class ProductImportController {
+
+    private final ProductImportService productImportService;
+
+    // CSV (header row) or JSON Lines with name, description, price, quantity, category (name or url), imageUrl.
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<APIResponse<ProductImportJobResponse>> start(@RequestPart("file") MultipartFile file,
+                                                                       @RequestParam(required = false) String format) throws IOException {
+        ProductImportJobResponse job = productImportService.start(file, format);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/products/import/" + job.getId()))
+                .body(APIResponse.<ProductImportJobResponse>builder()
+                        .success(true).message("Import started.").data(job).status(HttpStatus.ACCEPTED).build());
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<APIResponse<ProductImportJobResponse>> status(@PathVariable String jobId) {
+        ProductImportJobResponse job = productImportService.status(jobId);
+        return ResponseEntity.ok(APIResponse.<ProductImportJobResponse>builder()
+                .success(true).message("Import status fetched.").data(job).status(HttpStatus.OK).build());
+    }
+}
@@ -1,8 +1,11 @@
 package com.data.backend.controller;
 
 import com.data.backend.model.dto.APIResponse;
+import com.data.backend.model.dto.request.WishlistBulkRequest;
+import com.data.backend.model.dto.response.CartResponse;
 import com.data.backend.model.dto.response.WishlistResponse;
 import com.data.backend.service.wish.WishlistService;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -29,4 +32,19 @@ public class WishlistController {
         wishlistService.removeProductFromWishlist(authentication.getName(), productId);
         return new ResponseEntity<>(APIResponse.<Void>builder().success(true).message("Product removed from wishlist.").status(HttpStatus.OK).build(), HttpStatus.OK);
     }
+    @PostMapping("/bulk")
+    public ResponseEntity<APIResponse<Integer>> addProductsToWishlist(Authentication authentication, @Valid @RequestBody WishlistBulkRequest request) {
+        int added = wishlistService.addProductsToWishlist(authentication.getName(), request.getProductIds());
+        return new ResponseEntity<>(APIResponse.<Integer>builder().success(true).message("Products added to wishlist.").data(added).status(HttpStatus.OK).build(), HttpStatus.OK);
+    }
+    @PostMapping("/bulk-remove")
+    public ResponseEntity<APIResponse<Integer>> removeProductsFromWishlist(Authentication authentication, @Valid @RequestBody WishlistBulkRequest request) {
+        int removed = wishlistService.removeProductsFromWishlist(authentication.getName(), request.getProductIds());
+        return new ResponseEntity<>(APIResponse.<Integer>builder().success(true).message("Products removed from wishlist.").data(removed).status(HttpStatus.OK).build(), HttpStatus.OK);
+    }
+    @PostMapping("/move-to-cart")
+    public ResponseEntity<APIResponse<CartResponse>> moveProductsToCart(Authentication authentication, @Valid @RequestBody WishlistBulkRequest request) {
+        CartResponse cart = wishlistService.moveProductsToCart(authentication.getName(), request.getProductIds());
+        return new ResponseEntity<>(APIResponse.<CartResponse>builder().success(true).message("Products moved to cart.").data(cart).status(HttpStatus.OK).build(), HttpStatus.OK);
+    }
 }
@@ -0,0 +1,66 @@
+package com.data.backend.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class BusinessMetrics {
+    private final Counter ordersCreated;
+    private final Counter ordersCancelled;
+    private final Counter stockOutRejections;
+    private final Counter cartsExpired;
+    private final Counter cartItemsExpired;
+    private final Timer cartExpiryRuns;
+
+    public BusinessMetrics(MeterRegistry registry) {
+        this.ordersCreated = Counter.builder("orders.created").description("Orders committed").register(registry);
+        this.ordersCancelled = Counter.builder("orders.cancelled").description("Orders cancelled").register(registry);
+        this.stockOutRejections = Counter.builder("orders.stock.rejections")
+                .description("Checkouts rejected because a product was out of stock").register(registry);
+        this.cartsExpired = Counter.builder("carts.expired").description("Abandoned carts deleted").register(registry);
+        this.cartItemsExpired = Counter.builder("carts.expired.items").description("Items deleted with abandoned carts").register(registry);
+        this.cartExpiryRuns = Timer.builder("carts.expiry.run").description("Duration of abandoned cart cleanup runs").register(registry);
+    }
+
+    public void orderCreated() {
+        afterCommit(ordersCreated::increment);
+    }
+
+    public void orderCancelled() {
+        afterCommit(ordersCancelled::increment);
+    }
+
+    public void stockOutRejected() {
+        stockOutRejections.increment();
+    }
+
+    public void cartsExpired(long carts, long items) {
+        afterCommit(() -> {
+            cartsExpired.increment(carts);
+            cartItemsExpired.increment(items);
+        });
+    }
+
+    public void cartExpiryRun(long nanos) {
+        cartExpiryRuns.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,57 @@
+package com.data.backend.metrics.query;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Runs ahead of the security chain so the JWT user lookup is counted too.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+    private final MeterRegistry registry;
+
+    @Value("${query_budget_max:15}")
+    private int budget;
+
+    public QueryBudgetFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        QueryStats stats = QueryStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryStats.clear();
+            String endpoint = endpoint(request);
+            DistributionSummary.builder("http.server.requests.queries")
+                    .description("JDBC statements per request")
+                    .tag("uri", endpoint)
+                    .register(registry)
+                    .record(stats.getCount());
+            if (stats.getCount() > budget) {
+                log.warn("Query budget exceeded: {} {} ran {} statements in {} ms (budget {})",
+                        request.getMethod(), endpoint, stats.getCount(), String.format("%.1f", stats.getMillis()), budget);
+            }
+        }
+    }
+
+    private String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
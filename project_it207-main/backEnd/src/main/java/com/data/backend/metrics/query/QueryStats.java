@@ -0,0 +1,48 @@
+package com.data.backend.metrics.query;
+
+// JDBC statements and DB time for the work running on the current thread (normally one request).
+public final class QueryStats {
+    public static final String COUNT_HEADER = "X-Query-Count";
+    public static final String TIME_HEADER = "X-Query-Time-Ms";
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private int count;
+    private long nanos;
+    private long startedAt;
+
+    public static QueryStats start() {
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    void beforeQuery() {
+        startedAt = System.nanoTime();
+    }
+
+    void afterQuery() {
+        count++;
+        nanos += System.nanoTime() - startedAt;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    public double getMillis() {
+        return nanos / 1_000_000.0;
+    }
+}
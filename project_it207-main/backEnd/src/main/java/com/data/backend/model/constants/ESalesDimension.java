@@ -0,0 +1,7 @@
+package com.data.backend.model.constants;
+
+public enum ESalesDimension {
+    TOTAL,
+    CATEGORY,
+    PRODUCT
+}
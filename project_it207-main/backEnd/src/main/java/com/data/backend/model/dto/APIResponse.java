@@ -10,5 +10,18 @@ public class APIResponse<T> {
     private Boolean success;
     private String message;
     private T data;
-    private HttpStatus status;
+    // Serialized as the numeric code; callers keep passing HttpStatus to the builder.
+    private Integer status;
+
+    public static class APIResponseBuilder<T> {
+        public APIResponseBuilder<T> status(HttpStatus status) {
+            this.status = status.value();
+            return this;
+        }
+
+        public APIResponseBuilder<T> status(Integer status) {
+            this.status = status;
+            return this;
+        }
+    }
 }
@@ -0,0 +1,11 @@
+package com.data.backend.model.dto.projection;
+
+import com.data.backend.model.money.Money;
+
+public interface WishlistItemView {
+    Long getWishlistId();
+    Long getProductId();
+    String getName();
+    Money getPrice();
+    String getImageUrl();
+}
@@ -0,0 +1,41 @@
+package com.data.backend.model.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+// One CSV record or JSON line of a bulk import; the category is given by name or url.
+@Getter
+@Setter
+public class ProductImportRow {
+    @NotBlank
+    @Size(max = 255)
+    private String name;
+
+    @Size(max = 255)
+    private String description;
+
+    @NotNull
+    @DecimalMin("0")
+    @Digits(integer = 17, fraction = 2)
+    private BigDecimal price;
+
+    @NotNull
+    @Min(0)
+    private Integer quantity;
+
+    @NotBlank
+    private String category;
+
+    @Size(max = 255)
+    @JsonAlias("image_url")
+    private String imageUrl;
+}
@@ -1,11 +1,15 @@
 package com.data.backend.model.dto.request;
 
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.math.BigDecimal;
+
 @Getter
 @Setter
 public class ProductRequest {
@@ -15,8 +19,9 @@ public class ProductRequest {
     private String description;
 
     @NotNull
-    @Min(0)
-    private Double price;
+    @DecimalMin("0")
+    @Digits(integer = 17, fraction = 2)
+    private BigDecimal price;
 
     @NotNull
     @Min(0)
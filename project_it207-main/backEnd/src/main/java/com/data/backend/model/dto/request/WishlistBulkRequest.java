@@ -0,0 +1,17 @@
+package com.data.backend.model.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class WishlistBulkRequest {
+    @NotEmpty
+    @Size(max = 200)
+    private List<@NotNull Long> productIds;
+}
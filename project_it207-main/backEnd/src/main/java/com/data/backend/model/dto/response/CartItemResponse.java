@@ -1,5 +1,6 @@
 package com.data.backend.model.dto.response;
 
+import com.data.backend.model.money.Money;
 import lombok.Data;
 import lombok.Getter;
 import lombok.Setter;
@@ -11,6 +12,6 @@ public class CartItemResponse {
     private Long productId;
     private String productName;
     private int quantity;
-    private double price;
+    private Money price;
     private String imageUrl;
 }
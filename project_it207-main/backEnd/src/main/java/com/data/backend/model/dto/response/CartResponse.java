@@ -1,5 +1,6 @@
 package com.data.backend.model.dto.response;
 
+import com.data.backend.model.money.Money;
 import lombok.Data;
 import lombok.Getter;
 import lombok.Setter;
@@ -12,5 +13,5 @@ import java.time.LocalDateTime;
 public class CartResponse {
     private Long cartId;
     private List<CartItemResponse> items;
-    private double totalPrice;
+    private Money totalPrice;
 }
@@ -1,5 +1,6 @@
 package com.data.backend.model.dto.response;
 
+import com.data.backend.model.money.Money;
 import lombok.*;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -10,7 +11,7 @@ public class OrderDetailResponse {
     private Long id;
     private String username;
     private LocalDateTime orderDate;
-    private Double totalAmount;
+    private Money totalAmount;
     private List<CartItemResponse> orderItems;
     private List<OrderTrackingResponse> trackingHistory;
 }
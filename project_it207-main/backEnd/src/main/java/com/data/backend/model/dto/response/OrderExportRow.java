@@ -0,0 +1,21 @@
+package com.data.backend.model.dto.response;
+
+import com.data.backend.model.money.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// One row per order line; the order columns repeat for each of its items.
+@Data
+@AllArgsConstructor
+public class OrderExportRow {
+    private Long orderId;
+    private LocalDateTime orderDate;
+    private String username;
+    private Money totalAmount;
+    private Long productId;
+    private String productName;
+    private Integer quantity;
+    private Money pricePerUnit;
+}
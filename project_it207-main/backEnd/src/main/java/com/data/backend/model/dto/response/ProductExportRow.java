@@ -0,0 +1,22 @@
+package com.data.backend.model.dto.response;
+
+import com.data.backend.model.money.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class ProductExportRow {
+    private Long id;
+    private String name;
+    private String description;
+    private Money price;
+    private Integer quantity;
+    private Long categoryId;
+    private String category;
+    private String imageUrl;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
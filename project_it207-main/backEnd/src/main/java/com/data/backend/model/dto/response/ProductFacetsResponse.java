@@ -0,0 +1,34 @@
+package com.data.backend.model.dto.response;
+
+import com.data.backend.model.money.Money;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ProductFacetsResponse {
+    private long total;
+    private long inStock;
+    private List<CategoryFacet> categories;
+    private List<PriceFacet> prices;
+
+    @Data
+    @AllArgsConstructor
+    public static class CategoryFacet {
+        private Long id;
+        private String name;
+        private long count;
+    }
+
+    // [min, max); max is null for the open-ended top bucket.
+    @Data
+    @AllArgsConstructor
+    public static class PriceFacet {
+        private Money min;
+        private Money max;
+        private long count;
+    }
+}
@@ -0,0 +1,24 @@
+package com.data.backend.model.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class ProductImportJobResponse {
+    private String id;
+    private String fileName;
+    private String status;
+    private long rowsRead;
+    private long rowsImported;
+    private long rowsFailed;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String message;
+    // First product_import_max_errors rejected rows; rowsFailed has the full count.
+    private List<ProductImportError> errors;
+}
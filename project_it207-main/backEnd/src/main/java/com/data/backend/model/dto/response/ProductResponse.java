@@ -1,5 +1,7 @@
 package com.data.backend.model.dto.response;
 
+import com.data.backend.model.money.Money;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Data;
 import java.time.LocalDateTime;
@@ -10,10 +12,12 @@ public class ProductResponse {
     private Long id;
     private String name;
     private String description;
-    private Double price;
+    private Money price;
     private Integer quantity;
     private CategoryResponse category;
     private String imageUrl;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean inWishlist;
 }
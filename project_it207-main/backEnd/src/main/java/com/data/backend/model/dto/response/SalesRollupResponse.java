@@ -0,0 +1,26 @@
+package com.data.backend.model.dto.response;
+
+import com.data.backend.model.money.Money;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+// One day (date set) or one category / product over a date range (id and name set). Cancellations are reported on
+// the day the order was placed; netRevenue is revenue minus cancelledRevenue.
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SalesRollupResponse {
+    private LocalDate date;
+    private Long id;
+    private String name;
+    private long orders;
+    private long units;
+    private Money revenue;
+    private long cancelledOrders;
+    private long cancelledUnits;
+    private Money cancelledRevenue;
+    private Money netRevenue;
+}
@@ -0,0 +1,14 @@
+package com.data.backend.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class SuggestionResponse {
+    public enum Type { CATEGORY, PRODUCT }
+
+    private Type type;
+    private Long id;
+    private String name;
+}
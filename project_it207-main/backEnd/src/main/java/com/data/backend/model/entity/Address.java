@@ -8,7 +8,11 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "addresses")
+@Table(name = "addresses", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_addresses_default_user", columnNames = {"default_user_id"})
+}, indexes = {
+        @Index(name = "idx_addresses_user_default", columnList = "user_id, is_default")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -30,6 +34,12 @@ public class Address {
     @Column(name = "is_default")
     private Boolean isDefault = false;
 
+    // user_id for the default address and NULL otherwise, so the unique key allows one default per user.
+    @Column(name = "default_user_id", insertable = false, updatable = false,
+            columnDefinition = "BIGINT GENERATED ALWAYS AS (CASE WHEN is_default THEN user_id END)")
+    @JsonIgnore
+    private Long defaultUserId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     @JsonIgnore
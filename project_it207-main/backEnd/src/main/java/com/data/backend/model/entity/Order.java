@@ -1,5 +1,6 @@
 package com.data.backend.model.entity;
 
+import com.data.backend.model.money.Money;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -14,7 +15,10 @@ import java.util.List;
 @AllArgsConstructor
 @Getter
 @Setter
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_user_date", columnList = "user_id, order_date"),
+        @Index(name = "idx_orders_date", columnList = "order_date")
+})
 public class Order {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -25,7 +29,9 @@ public class Order {
     private User user;
 
     private LocalDateTime orderDate;
-    private Double totalAmount;
+
+    @Column(precision = 19, scale = Money.SCALE)
+    private Money totalAmount;
 
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
     private List<OrderItem> orderItems;
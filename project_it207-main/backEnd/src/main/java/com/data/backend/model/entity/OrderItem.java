@@ -1,5 +1,6 @@
 package com.data.backend.model.entity;
 
+import com.data.backend.model.money.Money;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -26,5 +27,7 @@ public class OrderItem {
     private Product product;
 
     private Integer quantity;
-    private Double pricePerUnit;
+
+    @Column(precision = 19, scale = Money.SCALE)
+    private Money pricePerUnit;
 }
@@ -11,7 +11,9 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
-@Table(name = "order_tracking")
+@Table(name = "order_tracking", indexes = {
+        @Index(name = "idx_order_tracking_order_time", columnList = "order_id, timestamp")
+})
 public class OrderTracking {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
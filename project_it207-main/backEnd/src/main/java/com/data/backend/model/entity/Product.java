@@ -1,11 +1,15 @@
 package com.data.backend.model.entity;
 
+import com.data.backend.model.money.Money;
+import com.data.backend.model.text.TextNormalizer;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
@@ -13,7 +17,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Getter
 @Setter
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_category", columnList = "category_id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product")
 public class Product {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -22,10 +30,14 @@ public class Product {
     @Column(nullable = false)
     private String name;
 
+    // Search form of name, kept in step by the lifecycle callbacks below.
+    @Column(name = "normalized_name")
+    private String normalizedName;
+
     private String description;
 
-    @Column(nullable = false)
-    private Double price;
+    @Column(nullable = false, precision = 19, scale = Money.SCALE)
+    private Money price;
 
     @Column(nullable = false)
     private Integer quantity;
@@ -45,10 +57,12 @@ public class Product {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        normalizedName = TextNormalizer.normalize(name);
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        normalizedName = TextNormalizer.normalize(name);
     }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.data.backend.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+// Read and written in bulk over JDBC by ProductRankingService; mapped so the schema is validated (and created in tests).
+@Entity
+@Table(name = "product_rank_buckets")
+@IdClass(ProductRankBucket.Key.class)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ProductRankBucket {
+    @Id
+    @Column(length = 32)
+    private String series;
+
+    @Id
+    @Column(name = "bucket_start")
+    private Long bucketStart;
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(nullable = false)
+    private Long total;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String series;
+        private Long bucketStart;
+        private Long productId;
+    }
+}
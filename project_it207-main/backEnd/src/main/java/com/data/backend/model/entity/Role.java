@@ -6,6 +6,9 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
 @NoArgsConstructor
 @AllArgsConstructor
@@ -13,6 +16,10 @@ import lombok.Setter;
 @Setter
 @Entity
 @Table(name = "roles")
+// Roles are seeded by migrations and never updated by the application, which READ_ONLY caching relies on.
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "role")
 public class Role {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,64 @@
+package com.data.backend.model.entity;
+
+import com.data.backend.model.constants.ESalesDimension;
+import com.data.backend.model.money.Money;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// Written with upserts over JDBC by SalesRollupService and SalesRollupBackfill; read through SalesRollupRepository.
+@Entity
+@Table(name = "sales_rollups", indexes = {
+        @Index(name = "idx_sales_rollups_key_date", columnList = "dimension, key_id, sales_date")
+})
+@IdClass(SalesRollup.Key.class)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class SalesRollup {
+    @Id
+    @Enumerated(EnumType.STRING)
+    private ESalesDimension dimension;
+
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Id
+    @Column(name = "key_id")
+    private Long keyId;
+
+    @Column(nullable = false)
+    private Integer orderCount;
+
+    @Column(nullable = false)
+    private Long units;
+
+    @Column(nullable = false, precision = 19, scale = Money.SCALE)
+    private Money revenue;
+
+    @Column(nullable = false)
+    private Integer cancelledOrders;
+
+    @Column(nullable = false)
+    private Long cancelledUnits;
+
+    @Column(nullable = false, precision = 19, scale = Money.SCALE)
+    private Money cancelledRevenue;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private ESalesDimension dimension;
+        private LocalDate salesDate;
+        private Long keyId;
+    }
+}
@@ -0,0 +1,31 @@
+package com.data.backend.model.money;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+public class MoneyJsonDeserializer extends StdDeserializer<Money> {
+    public MoneyJsonDeserializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public Money deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_STRING) {
+            String text = p.getText().trim();
+            if (text.isEmpty()) {
+                return null;
+            }
+            try {
+                return Money.of(new BigDecimal(text));
+            } catch (NumberFormatException ex) {
+                return (Money) ctxt.handleWeirdStringValue(Money.class, text, "not a valid amount");
+            }
+        }
+        return Money.of(p.getDecimalValue());
+    }
+}
@@ -0,0 +1,19 @@
+package com.data.backend.model.money;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+public class MoneyJsonSerializer extends StdSerializer<Money> {
+    public MoneyJsonSerializer() {
+        super(Money.class);
+    }
+
+    // Written from the exact decimal (always SCALE places), never through a binary double.
+    @Override
+    public void serialize(Money value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeNumber(value.toBigDecimal());
+    }
+}
@@ -0,0 +1,93 @@
+package com.data.backend.model.text;
+
+import java.text.Normalizer;
+
+// Search form of a text: lower case, Vietnamese diacritics removed (precomposed or combining), đ/Đ folded to d,
+// and every run of non letters/digits collapsed to one space, so tokens are the space-separated words.
+// "Áo thun  NAM - Đỏ" and "ao thun nam do" normalize to the same string. One pass over a lookup table; input that
+// is already normalized is returned as is, anything else costs one char[] and the result string.
+public final class TextNormalizer {
+    private static final char DROP = Character.MAX_VALUE;
+    // Basic Latin through Latin Extended Additional (U+1E00-1EFF), which holds the Vietnamese precomposed vowels.
+    private static final char[] FOLD = new char[0x1F00];
+
+    static {
+        for (int c = 0; c < FOLD.length; c++) {
+            FOLD[c] = computeFold((char) c);
+        }
+    }
+
+    private TextNormalizer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        int n = text.length();
+        char[] out = null;
+        int length = 0;
+        boolean gap = false;
+        for (int i = 0; i < n; i++) {
+            char c = fold(text.charAt(i));
+            if (c == DROP) {
+                continue;
+            }
+            if (c == ' ') {
+                gap = length > 0;
+                continue;
+            }
+            if (gap) {
+                gap = false;
+                // Output stays a prefix of the input for as long as it can; the buffer is only made on the first difference.
+                if (out == null && text.charAt(length) == ' ') {
+                    length++;
+                } else {
+                    out = put(out, text, length++, ' ');
+                }
+            }
+            if (out == null && text.charAt(length) == c) {
+                length++;
+            } else {
+                out = put(out, text, length++, c);
+            }
+        }
+        if (out == null) {
+            return length == n ? text : text.substring(0, length);
+        }
+        return new String(out, 0, length);
+    }
+
+    private static char[] put(char[] out, String text, int at, char c) {
+        if (out == null) {
+            out = new char[text.length()];
+            text.getChars(0, at, out, 0);
+        }
+        out[at] = c;
+        return out;
+    }
+
+    private static char fold(char c) {
+        if (c < FOLD.length) {
+            return FOLD[c];
+        }
+        if (Character.isSurrogate(c) || !Character.isLetterOrDigit(c)) {
+            return Character.getType(c) == Character.NON_SPACING_MARK ? DROP : ' ';
+        }
+        return Character.toLowerCase(c);
+    }
+
+    private static char computeFold(char c) {
+        if (c == 'đ' || c == 'Đ') {
+            return 'd';
+        }
+        if (Character.getType(c) == Character.NON_SPACING_MARK) {
+            return DROP;
+        }
+        char base = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD).charAt(0);
+        if (!Character.isLetterOrDigit(base)) {
+            return ' ';
+        }
+        return Character.toLowerCase(base);
+    }
+}
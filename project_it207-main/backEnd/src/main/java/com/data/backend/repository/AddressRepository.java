@@ -1,7 +1,13 @@
 package com.data.backend.repository;
 
 import com.data.backend.model.entity.Address;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,5 +18,13 @@ public interface AddressRepository extends JpaRepository<Address, Long> {
     List<Address> findByUserId(Long userId);
     Optional<Address> findByIdAndUserId(Long id, Long userId);
     Optional<Address> findByUserIdAndIsDefaultTrue(Long userId);
-}
+    List<Address> findByUser_Username(String username);
+    Optional<Address> findByIdAndUser_Username(Long id, String username);
 
+    // ORDER BY clears the old default before setting the new one, so uk_addresses_default_user never sees two.
+    @Modifying(clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "addresses"))
+    @Query(value = "UPDATE addresses SET is_default = (id = :addressId) WHERE user_id = :userId ORDER BY is_default DESC",
+            nativeQuery = true)
+    int switchDefaultAddress(@Param("userId") Long userId, @Param("addressId") Long addressId);
+}
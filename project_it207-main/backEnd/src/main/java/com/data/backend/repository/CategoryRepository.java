@@ -1,13 +1,31 @@
 package com.data.backend.repository;
 
 import com.data.backend.model.entity.Category;
+import com.data.backend.service.product.suggest.SuggestRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     boolean existsByNameIgnoreCase(String name);
     Optional<Category> findByNameIgnoreCase(String name);
     boolean existsByCategoryUrl(String categoryUrl);
+
+    // Query cache: results are dropped whenever the categories table is written.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Category> findByCategoryUrl(String categoryUrl);
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Page<Category> findAll(Pageable pageable);
+
+    @Query("SELECT new com.data.backend.service.product.suggest.SuggestRow(c.id, c.name, COUNT(p)) FROM Category c LEFT JOIN c.products p GROUP BY c.id, c.name")
+    List<SuggestRow> findSuggestRows();
 }
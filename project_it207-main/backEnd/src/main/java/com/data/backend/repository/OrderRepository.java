@@ -1,9 +1,57 @@
 package com.data.backend.repository;
 
+import com.data.backend.model.dto.response.OrderExportRow;
 import com.data.backend.model.entity.Order;
+import com.data.backend.service.analytics.SalesRollupSource;
+import com.data.backend.service.product.ranking.ProductSale;
+import com.data.backend.service.product.related.OrderItemPair;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByUserId(Long userId);
-}
\ No newline at end of file
+
+    @Query("SELECT new com.data.backend.model.dto.response.OrderExportRow(o.id, o.orderDate, u.username, o.totalAmount, " +
+            "p.id, p.name, i.quantity, i.pricePerUnit) FROM OrderItem i JOIN i.order o JOIN o.user u JOIN i.product p ORDER BY o.id, i.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<OrderExportRow> streamForExport();
+
+    @Query("SELECT new com.data.backend.service.product.related.OrderItemPair(i.order.id, i.product.id) FROM OrderItem i ORDER BY i.order.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<OrderItemPair> streamItemPairs();
+
+    @Query("SELECT new com.data.backend.service.product.ranking.ProductSale(i.product.id, o.orderDate, i.quantity) FROM OrderItem i JOIN i.order o " +
+            "WHERE o.orderDate >= :since AND NOT EXISTS (SELECT t.id FROM OrderTracking t WHERE t.order = o AND t.status = 'CANCELLED')")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ProductSale> streamSalesSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT new com.data.backend.service.analytics.SalesRollupSource(o.id, p.id, c.id, i.quantity, i.pricePerUnit, " +
+            "(SELECT MAX(t.id) FROM OrderTracking t WHERE t.order = o AND t.status = 'CANCELLED')) " +
+            "FROM OrderItem i JOIN i.order o JOIN i.product p LEFT JOIN p.category c " +
+            "WHERE o.orderDate >= :from AND o.orderDate < :to ORDER BY o.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<SalesRollupSource> streamRollupSource(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT MIN(o.orderDate) FROM Order o")
+    LocalDateTime findFirstOrderDate();
+}
@@ -1,15 +1,61 @@
 package com.data.backend.repository;
 
+import com.data.backend.model.dto.response.ProductExportRow;
 import com.data.backend.model.entity.Product;
+import com.data.backend.service.product.facet.ProductFacetRow;
+import com.data.backend.service.product.suggest.SuggestRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 public interface ProductRepository extends JpaRepository<Product, Long> {
     long countByCategory_Id(Long categoryId);
     
-    @Query("SELECT p FROM Product p WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :search, '%'))")
-    Page<Product> findByNameContainingIgnoreCase(@Param("search") String search, Pageable pageable);
-}
\ No newline at end of file
+    // :search must already be normalized (TextNormalizer), which also leaves no LIKE wildcards in it.
+    @Query("SELECT p FROM Product p WHERE p.normalizedName LIKE CONCAT('%', :search, '%')")
+    Page<Product> searchByNormalizedName(@Param("search") String search, Pageable pageable);
+
+    // Forward-only DTO stream for exports; the fetch size keeps MySQL on a server-side cursor (useCursorFetch).
+    @Query("SELECT new com.data.backend.model.dto.response.ProductExportRow(p.id, p.name, p.description, p.price, p.quantity, " +
+            "c.id, c.name, p.imageUrl, p.createdAt, p.updatedAt) FROM Product p LEFT JOIN p.category c ORDER BY p.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ProductExportRow> streamForExport();
+
+    @Query("SELECT p.id FROM Product p WHERE p.normalizedName LIKE CONCAT('%', :search, '%')")
+    List<Long> findIdsByNormalizedName(@Param("search") String search);
+
+    @Query("SELECT new com.data.backend.service.product.facet.ProductFacetRow(p.id, c.id, p.price, p.quantity) FROM Product p LEFT JOIN p.category c")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ProductFacetRow> streamFacetRows();
+
+    @Query("SELECT new com.data.backend.service.product.facet.ProductFacetRow(p.id, c.id, p.price, p.quantity) FROM Product p LEFT JOIN p.category c WHERE p.id IN :ids")
+    List<ProductFacetRow> findFacetRows(@Param("ids") Collection<Long> ids);
+
+    // Popularity is units ordered; cancelled orders still count as interest.
+    @Query("SELECT new com.data.backend.service.product.suggest.SuggestRow(p.id, p.name, COALESCE(SUM(i.quantity), 0L)) " +
+            "FROM Product p LEFT JOIN OrderItem i ON i.product = p GROUP BY p.id, p.name")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<SuggestRow> streamSuggestRows();
+
+    @Query("SELECT new com.data.backend.service.product.suggest.SuggestRow(p.id, p.name, COALESCE(SUM(i.quantity), 0L)) " +
+            "FROM Product p LEFT JOIN OrderItem i ON i.product = p WHERE p.id IN :ids GROUP BY p.id, p.name")
+    List<SuggestRow> findSuggestRows(@Param("ids") Collection<Long> ids);
+}
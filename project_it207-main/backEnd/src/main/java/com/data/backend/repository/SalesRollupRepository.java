@@ -0,0 +1,29 @@
+package com.data.backend.repository;
+
+import com.data.backend.model.constants.ESalesDimension;
+import com.data.backend.model.entity.SalesRollup;
+import com.data.backend.service.analytics.SalesTotals;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, SalesRollup.Key> {
+    @Query("SELECT new com.data.backend.service.analytics.SalesTotals(r.salesDate, SUM(r.orderCount), SUM(r.units), SUM(r.revenue), " +
+            "SUM(r.cancelledOrders), SUM(r.cancelledUnits), SUM(r.cancelledRevenue)) FROM SalesRollup r " +
+            "WHERE r.dimension = :dimension AND r.salesDate BETWEEN :from AND :to GROUP BY r.salesDate ORDER BY r.salesDate")
+    List<SalesTotals> sumByDate(@Param("dimension") ESalesDimension dimension, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT new com.data.backend.service.analytics.SalesTotals(r.keyId, SUM(r.orderCount), SUM(r.units), SUM(r.revenue), " +
+            "SUM(r.cancelledOrders), SUM(r.cancelledUnits), SUM(r.cancelledRevenue)) FROM SalesRollup r " +
+            "WHERE r.dimension = :dimension AND r.salesDate BETWEEN :from AND :to GROUP BY r.keyId ORDER BY SUM(r.revenue) DESC, r.keyId")
+    List<SalesTotals> sumByKey(@Param("dimension") ESalesDimension dimension, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT new com.data.backend.service.analytics.SalesTotals(r.salesDate, SUM(r.orderCount), SUM(r.units), SUM(r.revenue), " +
+            "SUM(r.cancelledOrders), SUM(r.cancelledUnits), SUM(r.cancelledRevenue)) FROM SalesRollup r " +
+            "WHERE r.dimension = :dimension AND r.keyId = :keyId AND r.salesDate BETWEEN :from AND :to GROUP BY r.salesDate ORDER BY r.salesDate")
+    List<SalesTotals> sumByDateForKey(@Param("dimension") ESalesDimension dimension, @Param("keyId") Long keyId,
+                                      @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
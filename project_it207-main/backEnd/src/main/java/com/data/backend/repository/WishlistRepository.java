@@ -1,12 +1,39 @@
 package com.data.backend.repository;
 
+import com.data.backend.model.dto.projection.WishlistItemView;
 import com.data.backend.model.entity.Wishlist;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
     List<Wishlist> findByUserId(Long userId);
     Optional<Wishlist> findByUserIdAndProductId(Long userId, Long productId);
-    void deleteByUserIdAndProductId(Long userId, Long productId);
-}
\ No newline at end of file
+
+    @Query("SELECT w.id AS wishlistId, p.id AS productId, p.name AS name, p.price AS price, p.imageUrl AS imageUrl " +
+            "FROM Wishlist w JOIN w.product p WHERE w.user.id = :userId ORDER BY w.id")
+    List<WishlistItemView> findItemsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT w.product.id FROM Wishlist w WHERE w.user.id = :userId")
+    List<Long> findProductIdsByUserId(@Param("userId") Long userId);
+
+    // Relies on the (user_id, product_id) unique key; unknown product ids are skipped by the join.
+    // The query space limits second-level cache invalidation to wishlists instead of every region.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "wishlists"))
+    @Query(value = "INSERT IGNORE INTO wishlists (user_id, product_id) " +
+            "SELECT :userId, p.id FROM products p WHERE p.id IN (:productIds)", nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("productIds") Collection<Long> productIds);
+
+    @Modifying
+    @Query("DELETE FROM Wishlist w WHERE w.user.id = :userId AND w.product.id IN :productIds")
+    int deleteByUserIdAndProductIds(@Param("userId") Long userId, @Param("productIds") Collection<Long> productIds);
+}
@@ -2,6 +2,7 @@ package com.data.backend.security.config;
 
 import com.data.backend.model.dto.APIResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -15,7 +16,12 @@ import java.util.Map;
 
 @Component
 public class JWTAuthenticationEntryPoint implements AuthenticationEntryPoint {
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    // Boot's mapper, so error bodies get the same modules and settings as controller responses.
+    private final ObjectWriter writer;
+
+    public JWTAuthenticationEntryPoint(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writerFor(APIResponse.class);
+    }
 
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response,
@@ -49,10 +55,11 @@ public class JWTAuthenticationEntryPoint implements AuthenticationEntryPoint {
                 .data(null)
                 .message(message)
                 .success(false)
+                .status(status)
                 .build();
 
         response.setContentType("application/json");
         response.setStatus(status);
-        objectMapper.writeValue(response.getOutputStream(), apiResponse);
+        writer.writeValue(response.getOutputStream(), apiResponse);
     }
 }
@@ -48,7 +48,8 @@ public class JWTProvider {
             Jwts.parserBuilder().setSigningKey(key()).build().parseClaimsJws(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
-            log.error("JWT validate error: {}", e.getMessage());
+            // Client error, not ours; sampled in prod (logback-spring.xml).
+            log.warn("JWT validate error: {}", e.getMessage());
             return false;
         }
     }
@@ -0,0 +1,111 @@
+package com.data.backend.security.ratelimit;
+
+import com.data.backend.model.dto.APIResponse;
+import com.data.backend.security.principal.CustomUserDetails;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+// Sits right after JWTAuthFilter so signed-in users are limited per account and everyone else per client IP,
+// before login's BCrypt check or any controller work. First matching policy wins.
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+    private final List<RateLimitPolicy> policies;
+    private final boolean enabled;
+    private final ObjectWriter writer;
+    private final MeterRegistry registry;
+
+    public RateLimitFilter(@Value("${rate_limit_enabled:true}") boolean enabled,
+                           @Value("${rate_limit_policies:}") List<String> specs,
+                           ObjectMapper objectMapper,
+                           MeterRegistry registry) {
+        this.enabled = enabled;
+        this.policies = specs.stream().filter(s -> !s.isBlank()).map(RateLimitPolicy::parse).toList();
+        this.writer = objectMapper.writerFor(APIResponse.class);
+        this.registry = registry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || policies.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RateLimitPolicy policy = policyFor(request);
+        if (policy != null) {
+            long wait = policy.acquire(clientKey(request), System.nanoTime());
+            if (wait > 0) {
+                reject(policy, wait, response);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    @Scheduled(fixedDelayString = "${rate_limit_sweep_interval:60000}")
+    public void sweepIdleBuckets() {
+        long now = System.nanoTime();
+        int removed = 0;
+        for (RateLimitPolicy policy : policies) {
+            removed += policy.sweep(now);
+        }
+        if (removed > 0) {
+            log.debug("Evicted {} idle rate limit buckets", removed);
+        }
+    }
+
+    private RateLimitPolicy policyFor(HttpServletRequest request) {
+        for (RateLimitPolicy policy : policies) {
+            if (policy.matches(request)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    // Remote address only; behind a proxy rely on server.forward-headers-strategy rather than trusting X-Forwarded-For here.
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return "u" + userDetails.getUser().getId();
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void reject(RateLimitPolicy policy, long waitNanos, HttpServletResponse response) throws IOException {
+        Counter.builder("http.server.requests.throttled")
+                .description("Requests rejected by the rate limiter")
+                .tag("policy", policy.getName())
+                .register(registry)
+                .increment();
+        long retryAfter = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        writer.writeValue(response.getOutputStream(), APIResponse.<Void>builder()
+                .success(false)
+                .message("Too many requests, retry in " + retryAfter + "s")
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .build());
+    }
+}
@@ -0,0 +1,71 @@
+package com.data.backend.security.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// GCRA: each key stores its theoretical arrival time, so a bucket is one AtomicLong updated by CAS.
+@Getter
+public class RateLimitPolicy {
+    private final String name;
+    private final int permits;
+    private final Duration period;
+    private final AntPathRequestMatcher matcher;
+    private final long emissionNanos;
+    private final long burstNanos;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    public RateLimitPolicy(String method, String pattern, int permits, Duration period) {
+        if (permits <= 0 || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("Rate limit must be positive: " + permits + "/" + period);
+        }
+        this.name = method + " " + pattern;
+        this.permits = permits;
+        this.period = period;
+        this.matcher = new AntPathRequestMatcher(pattern, "*".equals(method) ? null : method);
+        this.emissionNanos = period.toNanos() / permits;
+        this.burstNanos = emissionNanos * permits;
+    }
+
+    // "POST /api/v1/auth/** 20/1m"
+    public static RateLimitPolicy parse(String spec) {
+        String[] parts = spec.trim().split("\\s+");
+        String[] rate = parts.length == 3 ? parts[2].split("/") : new String[0];
+        if (rate.length != 2) {
+            throw new IllegalArgumentException("Expected 'METHOD pattern permits/period' but got: " + spec);
+        }
+        return new RateLimitPolicy(parts[0].toUpperCase(), parts[1], Integer.parseInt(rate[0]), DurationStyle.detectAndParse(rate[1]));
+    }
+
+    public boolean matches(HttpServletRequest request) {
+        return matcher.matches(request);
+    }
+
+    // 0 when the request may proceed, otherwise how long (ns) until it would.
+    public long acquire(String key, long now) {
+        AtomicLong tat = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, now) + emissionNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // A bucket whose arrival time has passed is full again, which is the same as having none.
+    public int sweep(long now) {
+        int before = buckets.size();
+        buckets.values().removeIf(tat -> tat.get() <= now);
+        return before - buckets.size();
+    }
+}
@@ -1,5 +1,6 @@
 package com.data.backend.service.address;
 
+import com.data.backend.config.CacheConfig;
 import com.data.backend.model.dto.request.AddressRequest;
 import com.data.backend.model.dto.response.AddressResponse;
 import com.data.backend.model.entity.Address;
@@ -8,6 +9,8 @@ import com.data.backend.repository.AddressRepository;
 import com.data.backend.service.user.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,9 +27,9 @@ public class AddressServiceImpl implements AddressService {
     private UserService userService;
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.USER_ADDRESSES, key = "#username")
     public List<AddressResponse> getUserAddresses(String username) {
-        User user = userService.findUserByUsername(username);
-        return addressRepository.findByUserId(user.getId())
+        return addressRepository.findByUser_Username(username)
                 .stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
@@ -34,88 +37,68 @@ public class AddressServiceImpl implements AddressService {
 
     @Override
     public AddressResponse getAddressById(String username, Long addressId) {
-        User user = userService.findUserByUsername(username);
-        Address address = addressRepository.findByIdAndUserId(addressId, user.getId())
-                .orElseThrow(() -> new EntityNotFoundException("Address not found"));
-        return mapToResponse(address);
+        return mapToResponse(findOwnedAddress(username, addressId));
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USER_ADDRESSES, key = "#username")
     public AddressResponse createAddress(String username, AddressRequest request) {
         User user = userService.findUserByUsername(username);
 
-        // If this is set as default, unset other default addresses
-        if (request.getIsDefault() != null && request.getIsDefault()) {
-            addressRepository.findByUserIdAndIsDefaultTrue(user.getId())
-                    .ifPresent(existingDefault -> {
-                        existingDefault.setIsDefault(false);
-                        addressRepository.save(existingDefault);
-                    });
-        }
-
         Address address = new Address();
         address.setLabel(request.getLabel());
         address.setFullAddress(request.getFullAddress());
         address.setAddressType(request.getAddressType());
-        address.setIsDefault(request.getIsDefault() != null ? request.getIsDefault() : false);
+        address.setIsDefault(false);
         address.setUser(user);
 
         Address savedAddress = addressRepository.save(address);
+        if (Boolean.TRUE.equals(request.getIsDefault())) {
+            addressRepository.switchDefaultAddress(user.getId(), savedAddress.getId());
+            savedAddress.setIsDefault(true);
+        }
         return mapToResponse(savedAddress);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USER_ADDRESSES, key = "#username")
     public AddressResponse updateAddress(String username, Long addressId, AddressRequest request) {
-        User user = userService.findUserByUsername(username);
-        Address address = addressRepository.findByIdAndUserId(addressId, user.getId())
-                .orElseThrow(() -> new EntityNotFoundException("Address not found"));
-
-        // If setting as default, unset other defaults
-        if (request.getIsDefault() != null && request.getIsDefault() && !address.getIsDefault()) {
-            addressRepository.findByUserIdAndIsDefaultTrue(user.getId())
-                    .ifPresent(existingDefault -> {
-                        existingDefault.setIsDefault(false);
-                        addressRepository.save(existingDefault);
-                    });
-        }
+        Address address = findOwnedAddress(username, addressId);
 
         address.setLabel(request.getLabel());
         address.setFullAddress(request.getFullAddress());
         if (request.getAddressType() != null) {
             address.setAddressType(request.getAddressType());
         }
-        if (request.getIsDefault() != null) {
+
+        // The switch flushes the field changes above and detaches the entity afterwards.
+        if (Boolean.TRUE.equals(request.getIsDefault()) && !Boolean.TRUE.equals(address.getIsDefault())) {
+            addressRepository.switchDefaultAddress(address.getUser().getId(), address.getId());
+            address.setIsDefault(true);
+        } else if (request.getIsDefault() != null) {
             address.setIsDefault(request.getIsDefault());
         }
-
-        Address updatedAddress = addressRepository.save(address);
-        return mapToResponse(updatedAddress);
+        return mapToResponse(address);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USER_ADDRESSES, key = "#username")
     public void deleteAddress(String username, Long addressId) {
-        User user = userService.findUserByUsername(username);
-        Address address = addressRepository.findByIdAndUserId(addressId, user.getId())
-                .orElseThrow(() -> new EntityNotFoundException("Address not found"));
-        addressRepository.delete(address);
+        addressRepository.delete(findOwnedAddress(username, addressId));
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.USER_ADDRESSES, key = "#username")
     public AddressResponse setDefaultAddress(String username, Long addressId) {
-        User user = userService.findUserByUsername(username);
-        Address address = addressRepository.findByIdAndUserId(addressId, user.getId())
-                .orElseThrow(() -> new EntityNotFoundException("Address not found"));
-
-        // Unset other default addresses
-        addressRepository.findByUserIdAndIsDefaultTrue(user.getId())
-                .ifPresent(existingDefault -> {
-                    existingDefault.setIsDefault(false);
-                    addressRepository.save(existingDefault);
-                });
-
+        Address address = findOwnedAddress(username, addressId);
+        addressRepository.switchDefaultAddress(address.getUser().getId(), address.getId());
         address.setIsDefault(true);
-        Address updatedAddress = addressRepository.save(address);
-        return mapToResponse(updatedAddress);
+        return mapToResponse(address);
+    }
+
+    private Address findOwnedAddress(String username, Long addressId) {
+        return addressRepository.findByIdAndUser_Username(addressId, username)
+                .orElseThrow(() -> new EntityNotFoundException("Address not found"));
     }
 
     private AddressResponse mapToResponse(Address address) {
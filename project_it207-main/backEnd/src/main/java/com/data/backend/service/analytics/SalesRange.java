@@ -0,0 +1,19 @@
+package com.data.backend.service.analytics;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+// Inclusive; defaults to the 30 days ending today.
+public record SalesRange(LocalDate from, LocalDate to) {
+    public static SalesRange of(LocalDate from, LocalDate to, int maxDays) {
+        LocalDate end = to == null ? LocalDate.now() : to;
+        LocalDate start = from == null ? end.minusDays(29) : from;
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("from must not be after to.");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= maxDays) {
+            throw new IllegalArgumentException("A sales range can span at most " + maxDays + " days.");
+        }
+        return new SalesRange(start, end);
+    }
+}
@@ -0,0 +1,114 @@
+package com.data.backend.service.analytics;
+
+import com.data.backend.model.money.Money;
+import com.data.backend.repository.OrderRepository;
+import com.data.backend.service.order.OrderLine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+// Recomputes sales_rollups from orders, one day per pass: that day's order lines are streamed (read-only, so from a
+// replica when there is one), summed in memory and swapped in with one short write transaction. Fills the table on
+// the first start after the migration; afterwards admins rerun it for days that need correcting. A day that is
+// still taking orders can miss or double count an order committed while it is rebuilt.
+@Component
+@Slf4j
+public class SalesRollupBackfill {
+    @Autowired private OrderRepository orderRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private SalesRollupService salesRollupService;
+
+    private final TransactionTemplate readOnly;
+    private final TransactionTemplate readWrite;
+
+    public SalesRollupBackfill(PlatformTransactionManager transactionManager) {
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        try {
+            Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM sales_rollups", Long.class);
+            LocalDateTime first = orderRepository.findFirstOrderDate();
+            if (rows != null && rows == 0 && first != null) {
+                rebuild(first.toLocalDate(), LocalDate.now());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Sales rollup backfill failed: {}", e.getMessage());
+        }
+    }
+
+    public synchronized int rebuild(LocalDate from, LocalDate to) {
+        long started = System.nanoTime();
+        int days = 0;
+        long orders = 0;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            orders += rebuildDay(day);
+            days++;
+        }
+        log.info("Sales rollups rebuilt for {} days ({} orders) in {} ms", days, orders, (System.nanoTime() - started) / 1_000_000);
+        return days;
+    }
+
+    private long rebuildDay(LocalDate day) {
+        SalesRollupBatch batch = salesRollupService.newBatch();
+        long[] orders = new long[1];
+        readOnly.executeWithoutResult(status -> {
+            try (Stream<SalesRollupSource> rows = orderRepository.streamRollupSource(day.atStartOfDay(), day.plusDays(1).atStartOfDay())) {
+                orders[0] = sum(batch, day, rows.iterator());
+            }
+        });
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM sales_rollups WHERE sales_date = ?", Date.valueOf(day));
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(SalesRollupService.INSERT, batch.rows());
+            }
+        });
+        return orders[0];
+    }
+
+    // Rows arrive ordered by order id, so an order's lines are contiguous.
+    private static long sum(SalesRollupBatch batch, LocalDate day, Iterator<SalesRollupSource> rows) {
+        long orders = 0;
+        List<OrderLine> lines = new ArrayList<>();
+        SalesRollupSource previous = null;
+        while (rows.hasNext()) {
+            SalesRollupSource row = rows.next();
+            if (previous != null && !previous.orderId().equals(row.orderId())) {
+                add(batch, day, previous, lines);
+                lines.clear();
+                orders++;
+            }
+            lines.add(new OrderLine(row.productId(), row.categoryId(), row.quantity() == null ? 0 : row.quantity(),
+                    row.pricePerUnit() == null ? Money.ZERO : row.pricePerUnit()));
+            previous = row;
+        }
+        if (previous != null) {
+            add(batch, day, previous, lines);
+            orders++;
+        }
+        return orders;
+    }
+
+    private static void add(SalesRollupBatch batch, LocalDate day, SalesRollupSource order, List<OrderLine> lines) {
+        batch.add(order.orderId(), day, lines, false);
+        if (order.cancelledBy() != null) {
+            batch.add(order.orderId(), day, lines, true);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.data.backend.service.analytics;
+
+import com.data.backend.model.constants.ESalesDimension;
+import com.data.backend.model.money.Money;
+import com.data.backend.service.order.OrderLine;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.*;
+
+// The rollup rows one or more orders add to, summed in memory. Rows come out in key order, so concurrent writers
+// lock them in the same sequence and cannot deadlock each other.
+class SalesRollupBatch {
+    private record Key(ESalesDimension dimension, LocalDate date, long keyId) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key other) {
+            int c = dimension.compareTo(other.dimension);
+            if (c == 0) {
+                c = date.compareTo(other.date);
+            }
+            return c != 0 ? c : Long.compare(keyId, other.keyId);
+        }
+    }
+
+    private static final class Sums {
+        int orders;
+        long units;
+        long revenue;
+        int cancelledOrders;
+        long cancelledUnits;
+        long cancelledRevenue;
+    }
+
+    private final int totalStripes;
+    private final SortedMap<Key, Sums> rows = new TreeMap<>();
+
+    SalesRollupBatch(int totalStripes) {
+        this.totalStripes = totalStripes;
+    }
+
+    boolean isEmpty() {
+        return rows.isEmpty();
+    }
+
+    // A cancellation lands on the order's own day, next to the sale it takes back.
+    void add(long orderId, LocalDate date, List<OrderLine> lines, boolean cancelled) {
+        Set<Key> counted = new HashSet<>();
+        Key total = new Key(ESalesDimension.TOTAL, date, Math.floorMod(orderId, totalStripes));
+        add(total, null, counted, cancelled);
+        for (OrderLine line : lines) {
+            add(total, line, counted, cancelled);
+            add(new Key(ESalesDimension.CATEGORY, date, line.categoryId() == null ? 0L : line.categoryId()), line, counted, cancelled);
+            add(new Key(ESalesDimension.PRODUCT, date, line.productId()), line, counted, cancelled);
+        }
+    }
+
+    // (dimension, sales_date, key_id, order_count, units, revenue, cancelled_orders, cancelled_units, cancelled_revenue)
+    List<Object[]> rows() {
+        List<Object[]> args = new ArrayList<>(rows.size());
+        rows.forEach((key, sums) -> args.add(new Object[]{
+                key.dimension().name(), Date.valueOf(key.date()), key.keyId(),
+                sums.orders, sums.units, Money.ofMinor(sums.revenue).toBigDecimal(),
+                sums.cancelledOrders, sums.cancelledUnits, Money.ofMinor(sums.cancelledRevenue).toBigDecimal()}));
+        return args;
+    }
+
+    // Each order counts once per row it touches, however many of its lines land there.
+    private void add(Key key, OrderLine line, Set<Key> counted, boolean cancelled) {
+        Sums sums = rows.computeIfAbsent(key, k -> new Sums());
+        boolean first = counted.add(key);
+        long amount = line == null ? 0 : line.pricePerUnit().timesMinor(line.quantity());
+        int units = line == null ? 0 : line.quantity();
+        if (cancelled) {
+            sums.cancelledOrders += first ? 1 : 0;
+            sums.cancelledUnits += units;
+            sums.cancelledRevenue = Math.addExact(sums.cancelledRevenue, amount);
+        } else {
+            sums.orders += first ? 1 : 0;
+            sums.units += units;
+            sums.revenue = Math.addExact(sums.revenue, amount);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.data.backend.service.analytics;
+
+import com.data.backend.model.constants.ESalesDimension;
+import com.data.backend.model.dto.response.SalesRollupResponse;
+import com.data.backend.model.entity.Category;
+import com.data.backend.model.entity.Product;
+import com.data.backend.model.money.Money;
+import com.data.backend.repository.CategoryRepository;
+import com.data.backend.repository.ProductRepository;
+import com.data.backend.repository.SalesRollupRepository;
+import com.data.backend.service.order.OrderCancelledEvent;
+import com.data.backend.service.order.OrderLine;
+import com.data.backend.service.order.OrderPlacedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// Daily sales per product, per category and for the whole shop. Each order write adds its rows inside the order's
+// own transaction, so the rollups commit or roll back with it; the admin dashboard only ever reads these rows.
+@Service
+public class SalesRollupService {
+    static final String INSERT = "INSERT INTO sales_rollups (dimension, sales_date, key_id, order_count, units, revenue, " +
+            "cancelled_orders, cancelled_units, cancelled_revenue) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPSERT = INSERT + " ON DUPLICATE KEY UPDATE order_count = order_count + VALUES(order_count), " +
+            "units = units + VALUES(units), revenue = revenue + VALUES(revenue), cancelled_orders = cancelled_orders + VALUES(cancelled_orders), " +
+            "cancelled_units = cancelled_units + VALUES(cancelled_units), cancelled_revenue = cancelled_revenue + VALUES(cancelled_revenue)";
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private SalesRollupRepository salesRollupRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private ProductRepository productRepository;
+
+    @Value("${sales_rollup_total_stripes:16}")
+    private int totalStripes;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        write(event.orderId(), event.orderDate(), event.lines(), false);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onOrderCancelled(OrderCancelledEvent event) {
+        write(event.orderId(), event.orderDate(), event.lines(), true);
+    }
+
+    SalesRollupBatch newBatch() {
+        return new SalesRollupBatch(totalStripes);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SalesRollupResponse> daily(SalesRange range) {
+        return salesRollupRepository.sumByDate(ESalesDimension.TOTAL, range.from(), range.to()).stream()
+                .map(totals -> response(totals).date((LocalDate) totals.group()).build())
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<SalesRollupResponse> byCategory(SalesRange range) {
+        List<SalesTotals> rows = salesRollupRepository.sumByKey(ESalesDimension.CATEGORY, range.from(), range.to());
+        Map<Long, String> names = categoryRepository.findAllById(keys(rows)).stream()
+                .collect(Collectors.toMap(Category::getId, Category::getName));
+        return rows.stream()
+                .map(totals -> response(totals).id((Long) totals.group()).name(names.get((Long) totals.group())).build())
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<SalesRollupResponse> topProducts(SalesRange range, int limit) {
+        List<SalesTotals> rows = salesRollupRepository.sumByKey(ESalesDimension.PRODUCT, range.from(), range.to());
+        rows = rows.subList(0, Math.min(limit, rows.size()));
+        Map<Long, String> names = productRepository.findAllById(keys(rows)).stream()
+                .collect(Collectors.toMap(Product::getId, Product::getName));
+        return rows.stream()
+                .map(totals -> response(totals).id((Long) totals.group()).name(names.get((Long) totals.group())).build())
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<SalesRollupResponse> productDaily(Long productId, SalesRange range) {
+        return salesRollupRepository.sumByDateForKey(ESalesDimension.PRODUCT, productId, range.from(), range.to()).stream()
+                .map(totals -> response(totals).date((LocalDate) totals.group()).build())
+                .toList();
+    }
+
+    private void write(Long orderId, LocalDateTime orderDate, List<OrderLine> lines, boolean cancelled) {
+        SalesRollupBatch batch = newBatch();
+        batch.add(orderId, (orderDate == null ? LocalDateTime.now() : orderDate).toLocalDate(), lines, cancelled);
+        jdbcTemplate.batchUpdate(UPSERT, batch.rows());
+    }
+
+    private static List<Long> keys(List<SalesTotals> rows) {
+        return rows.stream().map(totals -> (Long) totals.group()).toList();
+    }
+
+    private static SalesRollupResponse.SalesRollupResponseBuilder response(SalesTotals totals) {
+        Money revenue = money(totals.revenue());
+        Money cancelledRevenue = money(totals.cancelledRevenue());
+        return SalesRollupResponse.builder()
+                .orders(totals.orders())
+                .units(totals.units())
+                .revenue(revenue)
+                .cancelledOrders(totals.cancelledOrders())
+                .cancelledUnits(totals.cancelledUnits())
+                .cancelledRevenue(cancelledRevenue)
+                .netRevenue(Money.ofMinor(Math.subtractExact(revenue.getMinorUnits(), cancelledRevenue.getMinorUnits())));
+    }
+
+    private static Money money(BigDecimal amount) {
+        return amount == null ? Money.ZERO : Money.of(amount);
+    }
+}
@@ -0,0 +1,7 @@
+package com.data.backend.service.analytics;
+
+import com.data.backend.model.money.Money;
+
+// One order line as the backfill reads it; cancelledBy is the id of the order's CANCELLED tracking row, if any.
+public record SalesRollupSource(Long orderId, Long productId, Long categoryId, Integer quantity, Money pricePerUnit, Long cancelledBy) {
+}
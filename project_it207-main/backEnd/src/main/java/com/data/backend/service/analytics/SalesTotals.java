@@ -0,0 +1,8 @@
+package com.data.backend.service.analytics;
+
+import java.math.BigDecimal;
+
+// A sum of rollup rows grouped by date or by key_id, whichever the query selects first.
+public record SalesTotals(Object group, Long orders, Long units, BigDecimal revenue, Long cancelledOrders, Long cancelledUnits,
+                          BigDecimal cancelledRevenue) {
+}
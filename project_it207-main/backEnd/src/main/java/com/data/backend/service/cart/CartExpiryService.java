@@ -0,0 +1,145 @@
+package com.data.backend.service.cart;
+
+import com.data.backend.metrics.BusinessMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Deletes carts, with their items, that nobody has changed for cart_expiry_days. Candidates come from a keyset walk
+// over the id range (plain reads, no locks); each chunk is then locked by id, re-checked and deleted in its own short
+// transaction, so a cart touched since the scan survives and no lock outlives a chunk. Before every chunk the job
+// yields to live traffic: while requests queue for a primary connection it waits, and after cart_expiry_max_backoffs
+// waits it leaves the rest to the next run.
+@Component
+@Slf4j
+public class CartExpiryService {
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private DataSource dataSource;
+    @Autowired private BusinessMetrics businessMetrics;
+
+    @Value("${cart_expiry_days:30}")
+    private int expiryDays;
+
+    @Value("${cart_expiry_chunk_size:500}")
+    private int chunkSize;
+
+    @Value("${cart_expiry_chunk_pause:50}")
+    private long chunkPauseMillis;
+
+    @Value("${cart_expiry_max_waiting:0}")
+    private int maxWaiting;
+
+    @Value("${cart_expiry_backoff:500}")
+    private long backoffMillis;
+
+    @Value("${cart_expiry_max_backoffs:10}")
+    private int maxBackoffs;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public CartExpiryService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${cart_expiry_interval:3600000}", initialDelayString = "${cart_expiry_interval:3600000}")
+    public void expireAbandoned() {
+        expire(LocalDateTime.now().minusDays(expiryDays));
+    }
+
+    public synchronized long expire(LocalDateTime cutoff) {
+        long started = System.nanoTime();
+        long carts = 0;
+        long items = 0;
+        long afterId = 0;
+        try {
+            while (awaitIdlePool()) {
+                List<Long> candidates = jdbcTemplate.queryForList("SELECT id FROM carts WHERE id > ? AND updated_at < ? ORDER BY id LIMIT ?",
+                        Long.class, afterId, Timestamp.valueOf(cutoff), chunkSize);
+                if (candidates.isEmpty()) {
+                    break;
+                }
+                long[] deleted = transactionTemplate.execute(status -> deleteChunk(candidates, cutoff));
+                businessMetrics.cartsExpired(deleted[0], deleted[1]);
+                carts += deleted[0];
+                items += deleted[1];
+                afterId = candidates.get(candidates.size() - 1);
+                if (candidates.size() < chunkSize || !pause(chunkPauseMillis)) {
+                    break;
+                }
+            }
+        } finally {
+            businessMetrics.cartExpiryRun(System.nanoTime() - started);
+        }
+        if (carts > 0) {
+            log.info("Expired {} carts ({} items) not changed since {} in {} ms", carts, items, cutoff, (System.nanoTime() - started) / 1_000_000);
+        }
+        return carts;
+    }
+
+    private long[] deleteChunk(List<Long> candidates, LocalDateTime cutoff) {
+        List<Object> args = new ArrayList<>(candidates);
+        args.add(Timestamp.valueOf(cutoff));
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM carts WHERE id IN (" + placeholders(candidates.size()) + ") AND updated_at < ? FOR UPDATE",
+                Long.class, args.toArray());
+        if (ids.isEmpty()) {
+            return new long[2];
+        }
+        String in = placeholders(ids.size());
+        int items = jdbcTemplate.update("DELETE FROM cart_items WHERE cart_id IN (" + in + ")", ids.toArray());
+        int carts = jdbcTemplate.update("DELETE FROM carts WHERE id IN (" + in + ")", ids.toArray());
+        return new long[]{carts, items};
+    }
+
+    // False when the pool stayed busy through every backoff or the thread was interrupted.
+    private boolean awaitIdlePool() {
+        HikariPoolMXBean pool = primaryPool();
+        for (int waits = 0; pool != null && pool.getThreadsAwaitingConnection() > maxWaiting; waits++) {
+            if (waits == maxBackoffs) {
+                log.info("Cart expiry stopped early: requests are waiting for database connections");
+                return false;
+            }
+            if (!pause(backoffMillis)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Behind the query-counting proxy and, with replicas, the routing proxy; both unwrap to the primary pool.
+    private HikariPoolMXBean primaryPool() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean() : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private static boolean pause(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+}
@@ -3,9 +3,12 @@ package com.data.backend.service.cart;
 import com.data.backend.model.dto.request.CartRequest;
 import com.data.backend.model.dto.response.CartResponse;
 
+import java.util.Collection;
+
 public interface CartService {
     CartResponse getCartForUser(String username);
     CartResponse addProductToCart(String username, CartRequest cartRequest);
+    CartResponse addProductsToCart(String username, Collection<Long> productIds);
     CartResponse updateProductInCart(String username, Long productId, int quantity);
     void removeProductFromCart(String username, Long productId);
     void clearCart(String username);
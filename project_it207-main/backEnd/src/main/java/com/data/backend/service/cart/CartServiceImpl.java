@@ -4,13 +4,16 @@ import com.data.backend.model.dto.request.CartRequest;
 import com.data.backend.model.dto.response.CartItemResponse;
 import com.data.backend.model.dto.response.CartResponse;
 import com.data.backend.model.entity.*;
+import com.data.backend.model.money.Money;
 import com.data.backend.repository.*;
 import com.data.backend.service.user.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,7 +35,21 @@ public class CartServiceImpl implements CartService {
             cart.getItems().add(cartItem);
         }
         cartItem.setQuantity(cartItem.getQuantity() + cartRequest.getQuantity());
-        return mapCartToCartResponse(cartRepository.save(cart));
+        return mapCartToCartResponse(cartRepository.save(touch(cart)));
+    }
+    @Override
+    public CartResponse addProductsToCart(String username, Collection<Long> productIds) {
+        Cart cart = getOrCreateCart(userService.findUserByUsername(username));
+        for (Product product : productRepository.findAllById(productIds)) {
+            CartItem cartItem = cart.getItems().stream().filter(item -> item.getProduct().getId().equals(product.getId())).findFirst().orElse(new CartItem());
+            if (cartItem.getId() == null) {
+                cartItem.setCart(cart);
+                cartItem.setProduct(product);
+                cart.getItems().add(cartItem);
+            }
+            cartItem.setQuantity(cartItem.getQuantity() + 1);
+        }
+        return mapCartToCartResponse(cartRepository.save(touch(cart)));
     }
     @Override
     public CartResponse updateProductInCart(String username, Long productId, int quantity) {
@@ -43,17 +60,17 @@ public class CartServiceImpl implements CartService {
             CartItem itemToUpdate = cart.getItems().stream().filter(item -> item.getProduct().getId().equals(productId)).findFirst().orElseThrow(() -> new EntityNotFoundException("Product not in cart"));
             itemToUpdate.setQuantity(quantity);
         }
-        return mapCartToCartResponse(cartRepository.save(cart));
+        return mapCartToCartResponse(cartRepository.save(touch(cart)));
     }
     @Override public void removeProductFromCart(String username, Long productId) {
         Cart cart = getOrCreateCart(userService.findUserByUsername(username));
         cart.getItems().removeIf(item -> item.getProduct().getId().equals(productId));
-        cartRepository.save(cart);
+        cartRepository.save(touch(cart));
     }
     @Override public void clearCart(String username) {
         Cart cart = getOrCreateCart(userService.findUserByUsername(username));
         cart.getItems().clear();
-        cartRepository.save(cart);
+        cartRepository.save(touch(cart));
     }
     private Cart getOrCreateCart(User user) {
         return cartRepository.findByUserId(user.getId()).orElseGet(() -> {
@@ -64,11 +81,15 @@ public class CartServiceImpl implements CartService {
             return cartRepository.save(newCart);
         });
     }
-    private CartResponse mapCartToCartResponse(Cart cart) {
+    private static Cart touch(Cart cart) {
+        cart.setUpdatedAt(LocalDateTime.now());
+        return cart;
+    }
+    CartResponse mapCartToCartResponse(Cart cart) {
         CartResponse response = new CartResponse();
         response.setCartId(cart.getId());
         response.setItems(cart.getItems().stream().map(this::mapCartItemToResponse).collect(Collectors.toList()));
-        response.setTotalPrice(cart.getItems().stream().mapToDouble(item -> item.getProduct().getPrice() * item.getQuantity()).sum());
+        response.setTotalPrice(Money.ofMinor(cart.getItems().stream().mapToLong(item -> item.getProduct().getPrice().timesMinor(item.getQuantity())).reduce(0L, Math::addExact)));
         return response;
     }
     private CartItemResponse mapCartItemToResponse(CartItem item) {
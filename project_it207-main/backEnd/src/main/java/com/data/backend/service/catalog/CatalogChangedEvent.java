@@ -0,0 +1,5 @@
+package com.data.backend.service.catalog;
+
+// Published by write paths; CatalogVersions bumps the collection once the transaction commits.
+public record CatalogChangedEvent(CatalogVersions.Collection collection) {
+}
@@ -0,0 +1,49 @@
+package com.data.backend.service.catalog;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Per-collection change counters backing the catalog ETags. The startup epoch keeps ETags from a previous run
+// (or another instance) from ever matching, since the counters restart at zero.
+@Component
+public class CatalogVersions {
+    public enum Collection { PRODUCTS, CATEGORIES, COMMENTS }
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Collection, AtomicLong> versions = new EnumMap<>(Collection.class);
+
+    public CatalogVersions() {
+        for (Collection collection : Collection.values()) {
+            versions.put(collection, new AtomicLong());
+        }
+    }
+
+    public long version(Collection collection) {
+        return versions.get(collection).get();
+    }
+
+    // Collection parts are replaced by their current version; anything else is appended as is.
+    // Weak, because Tomcat does not compress responses that carry a strong ETag.
+    public String etag(Object... parts) {
+        StringBuilder etag = new StringBuilder("W/\"").append(epoch);
+        for (Object part : parts) {
+            etag.append('-');
+            if (part instanceof Collection collection) {
+                etag.append(collection.name().charAt(0)).append(version(collection));
+            } else {
+                etag.append(part);
+            }
+        }
+        return etag.append('"').toString();
+    }
+
+    // Runs immediately when published outside a transaction.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        versions.get(event.collection()).incrementAndGet();
+    }
+}
@@ -0,0 +1,19 @@
+package com.data.backend.service.catalog;
+
+import java.util.Collection;
+import java.util.Set;
+
+// Published by write paths that change a product's name, category, price, stock or units sold; a null id set means "reload everything".
+public record ProductChangedEvent(Set<Long> productIds) {
+    public static ProductChangedEvent of(Collection<Long> productIds) {
+        return new ProductChangedEvent(Set.copyOf(productIds));
+    }
+
+    public static ProductChangedEvent all() {
+        return new ProductChangedEvent(null);
+    }
+
+    public boolean isAll() {
+        return productIds == null;
+    }
+}
@@ -5,8 +5,12 @@ import com.data.backend.model.dto.response.CategoryResponse;
 import com.data.backend.model.entity.Category;
 import com.data.backend.repository.CategoryRepository;
 import com.data.backend.repository.ProductRepository;
+import com.data.backend.service.catalog.CatalogChangedEvent;
+import com.data.backend.service.catalog.CatalogVersions;
+import com.data.backend.service.catalog.ProductChangedEvent;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -19,6 +23,7 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -63,7 +68,9 @@ public class CategoryServiceImpl implements CategoryService {
         Category c = new Category();
         c.setName(request.getName());
         c.setCategoryUrl(request.getCategoryUrl());
-        return toResponse(categoryRepository.save(c));
+        Category saved = categoryRepository.save(c);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogVersions.Collection.CATEGORIES));
+        return toResponse(saved);
     }
 
     @Override
@@ -83,7 +90,9 @@ public class CategoryServiceImpl implements CategoryService {
 
         c.setName(request.getName());
         c.setCategoryUrl(request.getCategoryUrl());
-        return toResponse(categoryRepository.save(c));
+        Category saved = categoryRepository.save(c);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogVersions.Collection.CATEGORIES));
+        return toResponse(saved);
     }
 
     @Override
@@ -92,6 +101,9 @@ public class CategoryServiceImpl implements CategoryService {
             throw new EntityNotFoundException("Category not found with id: " + id);
         }
         categoryRepository.deleteById(id);
+        // The category's products are removed with it (cascade)
+        eventPublisher.publishEvent(ProductChangedEvent.all());
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogVersions.Collection.CATEGORIES));
     }
 
     private CategoryResponse toResponse(Category c) {
@@ -7,10 +7,14 @@ import com.data.backend.model.entity.Product;
 import com.data.backend.model.entity.User;
 import com.data.backend.repository.CommentRepository;
 import com.data.backend.repository.ProductRepository;
+import com.data.backend.service.catalog.CatalogChangedEvent;
+import com.data.backend.service.catalog.CatalogVersions;
 import com.data.backend.service.user.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -19,8 +23,10 @@ public class CommentServiceImpl implements CommentService {
     @Autowired private CommentRepository commentRepository;
     @Autowired private UserService userService;
     @Autowired private ProductRepository productRepository;
+    @Autowired private ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional(readOnly = true)
     public List<CommentResponse> getCommentsByProductId(Long productId) {
         if (!productRepository.existsById(productId)) {
             throw new EntityNotFoundException("Product not found with id: " + productId);
@@ -42,6 +48,7 @@ public class CommentServiceImpl implements CommentService {
         comment.setContent(request.getContent());
 
         Comment savedComment = commentRepository.save(comment);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogVersions.Collection.COMMENTS));
         return mapToResponse(savedComment);
     }
 
@@ -56,6 +63,7 @@ public class CommentServiceImpl implements CommentService {
         }
 
         commentRepository.delete(comment);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogVersions.Collection.COMMENTS));
     }
 
     private CommentResponse mapToResponse(Comment comment) {
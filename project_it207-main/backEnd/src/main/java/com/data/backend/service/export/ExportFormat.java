@@ -0,0 +1,25 @@
+package com.data.backend.service.export;
+
+import java.util.Locale;
+
+public enum ExportFormat {
+    CSV("csv"), JSONL("jsonl");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ExportFormat from(String value) {
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "csv" -> CSV;
+            case "jsonl", "ndjson" -> JSONL;
+            default -> throw new IllegalArgumentException("Unsupported export format '" + value + "', expected csv or jsonl.");
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package com.data.backend.service.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportService {
+    long exportProducts(OutputStream out, ExportFormat format) throws IOException;
+    long exportOrders(OutputStream out, ExportFormat format) throws IOException;
+}
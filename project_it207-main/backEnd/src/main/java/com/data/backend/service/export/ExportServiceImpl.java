@@ -0,0 +1,107 @@
+package com.data.backend.service.export;
+
+import com.data.backend.model.dto.response.OrderExportRow;
+import com.data.backend.model.dto.response.ProductExportRow;
+import com.data.backend.model.money.Money;
+import com.data.backend.repository.OrderRepository;
+import com.data.backend.repository.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// Rows come from constructor-expression streams, so nothing is attached to the persistence context
+// and memory stays flat however many rows the table has.
+@Service
+public class ExportServiceImpl implements ExportService {
+    private static final List<String> PRODUCT_COLUMNS = List.of("id", "name", "description", "price", "quantity",
+            "category_id", "category", "image_url", "created_at", "updated_at");
+    private static final List<String> ORDER_COLUMNS = List.of("order_id", "order_date", "username", "total_amount",
+            "product_id", "product_name", "quantity", "price_per_unit");
+
+    @Autowired private ProductRepository productRepository;
+    @Autowired private OrderRepository orderRepository;
+    @Autowired private ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportProducts(OutputStream out, ExportFormat format) throws IOException {
+        try (Stream<ProductExportRow> rows = productRepository.streamForExport()) {
+            return write(out, format, PRODUCT_COLUMNS, rows, r -> Arrays.asList(r.getId(), r.getName(), r.getDescription(),
+                    r.getPrice(), r.getQuantity(), r.getCategoryId(), r.getCategory(), r.getImageUrl(), r.getCreatedAt(), r.getUpdatedAt()));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportOrders(OutputStream out, ExportFormat format) throws IOException {
+        try (Stream<OrderExportRow> rows = orderRepository.streamForExport()) {
+            return write(out, format, ORDER_COLUMNS, rows, r -> Arrays.asList(r.getOrderId(), r.getOrderDate(), r.getUsername(),
+                    r.getTotalAmount(), r.getProductId(), r.getProductName(), r.getQuantity(), r.getPricePerUnit()));
+        }
+    }
+
+    private <T> long write(OutputStream out, ExportFormat format, List<String> columns, Stream<T> rows,
+                           Function<T, List<Object>> csvValues) throws IOException {
+        long count = 0;
+        Iterator<T> it = rows.iterator();
+        if (format == ExportFormat.JSONL) {
+            try (SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(out)) {
+                while (it.hasNext()) {
+                    writer.write(it.next());
+                    count++;
+                }
+            }
+            return count;
+        }
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writeCsvLine(writer, columns);
+        while (it.hasNext()) {
+            writeCsvLine(writer, csvValues.apply(it.next()));
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value != null) {
+                writeCsvField(writer, value instanceof Money money ? money.toBigDecimal().toPlainString() : value.toString());
+            }
+        }
+        writer.write('\n');
+    }
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
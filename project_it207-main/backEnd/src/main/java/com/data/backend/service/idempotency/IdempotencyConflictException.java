@@ -0,0 +1,8 @@
+package com.data.backend.service.idempotency;
+
+// A request with the same Idempotency-Key is still running, or did not finish in a way that can be replayed.
+public class IdempotencyConflictException extends RuntimeException {
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
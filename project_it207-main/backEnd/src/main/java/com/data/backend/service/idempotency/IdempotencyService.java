@@ -0,0 +1,7 @@
+package com.data.backend.service.idempotency;
+
+import java.util.function.Supplier;
+
+public interface IdempotencyService {
+    <T> T execute(String scope, String idempotencyKey, Supplier<T> action);
+}
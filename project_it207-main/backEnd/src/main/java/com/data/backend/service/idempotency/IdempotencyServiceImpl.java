@@ -0,0 +1,88 @@
+package com.data.backend.service.idempotency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// First request for a key runs the action; concurrent duplicates wait on it and
+// later retries replay the stored result until the TTL passes. Failures are not kept.
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${idempotency_ttl:86400000}")
+    private long ttlMillis;
+
+    @Value("${idempotency_wait:30000}")
+    private long waitMillis;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String scope, String idempotencyKey, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must not exceed " + MAX_KEY_LENGTH + " characters.");
+        }
+
+        String storeKey = scope + ":" + idempotencyKey;
+        Entry fresh = new Entry(new CompletableFuture<>(), System.currentTimeMillis() + ttlMillis);
+        Entry existing = entries.putIfAbsent(storeKey, fresh);
+        if (existing != null && existing.isExpired(System.currentTimeMillis()) && entries.replace(storeKey, existing, fresh)) {
+            existing = null;
+        }
+        if (existing != null) {
+            return (T) awaitResult(existing);
+        }
+
+        try {
+            T result = action.get();
+            fresh.result().complete(result);
+            return result;
+        } catch (Throwable ex) {
+            // Errors too: an entry whose future never completes would hold the key until the TTL.
+            entries.remove(storeKey, fresh);
+            fresh.result().completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency_sweep:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.isExpired(now) && entry.result().isDone());
+    }
+
+    private Object awaitResult(Entry entry) {
+        try {
+            return entry.result().get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            throw new IdempotencyConflictException("A request with the same Idempotency-Key is still being processed.");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException("A request with the same Idempotency-Key is still being processed.");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IdempotencyConflictException("The original request with this Idempotency-Key failed; retry it.");
+        }
+    }
+
+    private record Entry(CompletableFuture<Object> result, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.data.backend.service.order;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Carries the original order date so counters bucketed by day can take the units back from the right bucket.
+public record OrderCancelledEvent(Long orderId, LocalDateTime orderDate, List<OrderLine> lines) {
+}
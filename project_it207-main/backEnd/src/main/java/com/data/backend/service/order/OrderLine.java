@@ -0,0 +1,7 @@
+package com.data.backend.service.order;
+
+import com.data.backend.model.money.Money;
+
+// categoryId is the product's category when the event was published; null when it has none.
+public record OrderLine(Long productId, Long categoryId, int quantity, Money pricePerUnit) {
+}
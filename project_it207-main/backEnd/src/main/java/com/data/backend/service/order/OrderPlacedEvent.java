@@ -0,0 +1,11 @@
+package com.data.backend.service.order;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Published once an order's items are known; listeners that learn from purchases run after commit.
+public record OrderPlacedEvent(Long orderId, LocalDateTime orderDate, List<OrderLine> lines) {
+    public List<Long> productIds() {
+        return lines.stream().map(OrderLine::productId).toList();
+    }
+}
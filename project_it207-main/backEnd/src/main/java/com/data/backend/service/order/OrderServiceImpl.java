@@ -1,14 +1,20 @@
 package com.data.backend.service.order;
 
+import com.data.backend.metrics.BusinessMetrics;
 import com.data.backend.model.constants.ERole;
 import com.data.backend.model.dto.response.CartItemResponse;
 import com.data.backend.model.dto.response.OrderDetailResponse;
 import com.data.backend.model.dto.response.OrderTrackingResponse;
 import com.data.backend.model.entity.*;
+import com.data.backend.model.money.Money;
 import com.data.backend.repository.*;
+import com.data.backend.service.catalog.CatalogChangedEvent;
+import com.data.backend.service.catalog.CatalogVersions;
+import com.data.backend.service.catalog.ProductChangedEvent;
 import com.data.backend.service.user.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
@@ -24,6 +30,8 @@ public class OrderServiceImpl implements OrderService {
     @Autowired private CartRepository cartRepository;
     @Autowired private ProductRepository productRepository;
     @Autowired private OrderTrackingRepository orderTrackingRepository;
+    @Autowired private BusinessMetrics businessMetrics;
+    @Autowired private ApplicationEventPublisher eventPublisher;
 
     @Override
     public OrderDetailResponse createOrderFromCart(String username) {
@@ -44,6 +52,7 @@ public class OrderServiceImpl implements OrderService {
         List<OrderItem> orderItems = cart.getItems().stream().map(cartItem -> {
             Product product = productRepository.findById(cartItem.getProduct().getId()).orElseThrow(() -> new EntityNotFoundException("Product not found"));
             if (product.getQuantity() < cartItem.getQuantity()) {
+                businessMetrics.stockOutRejected();
                 throw new IllegalStateException("Not enough stock for product: " + product.getName());
             }
             product.setQuantity(product.getQuantity() - cartItem.getQuantity());
@@ -57,7 +66,7 @@ public class OrderServiceImpl implements OrderService {
         }).collect(Collectors.toList());
 
         savedOrder.setOrderItems(orderItems);
-        savedOrder.setTotalAmount(orderItems.stream().mapToDouble(item -> item.getPricePerUnit() * item.getQuantity()).sum());
+        savedOrder.setTotalAmount(Money.ofMinor(orderItems.stream().mapToLong(item -> item.getPricePerUnit().timesMinor(item.getQuantity())).reduce(0L, Math::addExact)));
 
         OrderTracking initialStatus = new OrderTracking();
         initialStatus.setOrder(savedOrder);
@@ -67,16 +76,22 @@ public class OrderServiceImpl implements OrderService {
         savedOrder.getTrackingHistory().add(initialStatus);
         cart.getItems().clear();
         cartRepository.save(cart);
+        businessMetrics.orderCreated();
+        eventPublisher.publishEvent(ProductChangedEvent.of(orderItems.stream().map(item -> item.getProduct().getId()).toList()));
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogVersions.Collection.PRODUCTS));
+        eventPublisher.publishEvent(new OrderPlacedEvent(savedOrder.getId(), savedOrder.getOrderDate(), linesOf(orderItems)));
         return mapOrderToDetailResponse(savedOrder);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<OrderDetailResponse> getOrdersForUser(String username) {
         User user = userService.findUserByUsername(username);
         return orderRepository.findByUserId(user.getId()).stream().map(this::mapOrderToDetailResponse).collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public OrderDetailResponse getOrderDetails(String username, Long orderId) {
         User user = userService.findUserByUsername(username);
         Order order = findOrderByIdAndCheckOwnership(orderId, user);
@@ -108,6 +123,15 @@ public class OrderServiceImpl implements OrderService {
         orderTrackingRepository.save(cancelledStatus); // LƯU TƯỜNG MINH
 
         order.getTrackingHistory().add(cancelledStatus);
+        businessMetrics.orderCancelled();
+        eventPublisher.publishEvent(ProductChangedEvent.of(order.getOrderItems().stream().map(item -> item.getProduct().getId()).toList()));
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogVersions.Collection.PRODUCTS));
+        eventPublisher.publishEvent(new OrderCancelledEvent(order.getId(), order.getOrderDate(), linesOf(order.getOrderItems())));
+    }
+
+    private static List<OrderLine> linesOf(List<OrderItem> items) {
+        return items.stream().map(item -> new OrderLine(item.getProduct().getId(),
+                item.getProduct().getCategory() == null ? null : item.getProduct().getCategory().getId(), item.getQuantity(), item.getPricePerUnit())).toList();
     }
 
     private Order findOrderByIdAndCheckOwnership(Long orderId, User user) {
@@ -119,7 +143,7 @@ public class OrderServiceImpl implements OrderService {
         return order;
     }
 
-    private OrderDetailResponse mapOrderToDetailResponse(Order order) {
+    OrderDetailResponse mapOrderToDetailResponse(Order order) {
         return OrderDetailResponse.builder()
                 .id(order.getId())
                 .username(order.getUser().getUsername())
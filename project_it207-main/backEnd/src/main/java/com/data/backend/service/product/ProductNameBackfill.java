@@ -0,0 +1,57 @@
+package com.data.backend.service.product;
+
+import com.data.backend.model.entity.Product;
+import com.data.backend.model.text.TextNormalizer;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Fills products.normalized_name for rows written before the column existed or by raw SQL. Walks the table in
+// keyset pages with one batch update per page, so no long transaction or table-wide lock is held.
+@Component
+@Slf4j
+public class ProductNameBackfill {
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Value("${product_name_backfill_batch:1000}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        try {
+            backfill();
+        } catch (RuntimeException e) {
+            log.warn("Product name backfill failed: {}", e.getMessage());
+        }
+    }
+
+    public int backfill() {
+        long started = System.nanoTime();
+        int updated = 0;
+        long afterId = 0;
+        while (true) {
+            List<Object[]> page = jdbcTemplate.query("SELECT id, name FROM products WHERE normalized_name IS NULL AND id > ? ORDER BY id LIMIT ?",
+                    (rs, i) -> new Object[]{TextNormalizer.normalize(rs.getString(2)), rs.getLong(1)}, afterId, batchSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            jdbcTemplate.batchUpdate("UPDATE products SET normalized_name = ? WHERE id = ?", page);
+            updated += page.size();
+            afterId = (Long) page.get(page.size() - 1)[1];
+        }
+        if (updated > 0) {
+            // Rows were changed behind Hibernate's back.
+            entityManagerFactory.getCache().evict(Product.class);
+            log.info("Backfilled normalized_name for {} products in {} ms", updated, (System.nanoTime() - started) / 1_000_000);
+        }
+        return updated;
+    }
+}
@@ -5,17 +5,35 @@ import com.data.backend.model.dto.response.CategoryResponse;
 import com.data.backend.model.dto.response.ProductResponse;
 import com.data.backend.model.entity.Category;
 import com.data.backend.model.entity.Product;
+import com.data.backend.model.money.Money;
+import com.data.backend.model.text.TextNormalizer;
 import com.data.backend.repository.CategoryRepository;
 import com.data.backend.repository.ProductRepository;
 import com.data.backend.service.CloudinaryService;
+import com.data.backend.service.catalog.CatalogChangedEvent;
+import com.data.backend.service.catalog.CatalogVersions;
+import com.data.backend.service.catalog.ProductChangedEvent;
+import com.data.backend.service.product.facet.FacetFilter;
+import com.data.backend.service.product.facet.ProductFacetIndex;
+import com.data.backend.service.product.facet.ProductFacetService;
+import com.data.backend.service.product.ranking.ProductRanking;
+import com.data.backend.service.product.ranking.ProductRankingService;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.roaringbitmap.RoaringBitmap;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,6 +41,10 @@ public class ProductServiceImpl implements ProductService {
     @Autowired private ProductRepository productRepository;
     @Autowired private CategoryRepository categoryRepository;
     @Autowired private CloudinaryService cloudinaryService;
+    @Autowired private ApplicationEventPublisher eventPublisher;
+    @Autowired private ProductFacetService productFacetService;
+    @Autowired private ProductRankingService productRankingService;
+    @PersistenceContext private EntityManager entityManager;
     
     public ProductResponse toProductResponse(Product product) {
         CategoryResponse categoryResponse = null;
@@ -48,13 +70,16 @@ public class ProductServiceImpl implements ProductService {
     }
     
     @Override 
+    @Transactional(readOnly = true)
     public Page<Product> findAll(Pageable pageable, String search) { 
-        if (search != null && !search.trim().isEmpty()) {
-            return productRepository.findByNameContainingIgnoreCase(search.trim(), pageable);
+        String normalized = TextNormalizer.normalize(search);
+        if (!normalized.isEmpty()) {
+            return productRepository.searchByNormalizedName(normalized, pageable);
         }
         return productRepository.findAll(pageable); 
     }
     
+    @Transactional(readOnly = true)
     public Page<ProductResponse> findAllAsResponse(Pageable pageable, String search) {
         Page<Product> productPage = findAll(pageable, search);
         return new PageImpl<>(
@@ -66,11 +91,47 @@ public class ProductServiceImpl implements ProductService {
         );
     }
     
+    // The facet index picks the page of ids; the rows then come from the second-level cache where possible.
+    @Transactional(readOnly = true)
+    public Page<ProductResponse> findFilteredAsResponse(Pageable pageable, String search, FacetFilter filter) {
+        ProductFacetIndex.Page page = productFacetService.page(filter, searchBitmap(search), pageable);
+        return new PageImpl<>(findAllByIdsAsResponse(page.ids()), pageable, page.total());
+    }
+
+    // Same candidates as a filtered listing, ordered by the in-memory rankings instead of a column.
+    @Transactional(readOnly = true)
+    public Page<ProductResponse> findRankedAsResponse(Pageable pageable, String search, FacetFilter filter, ProductRanking ranking) {
+        RoaringBitmap candidates = productFacetService.matching(filter, searchBitmap(search));
+        ProductFacetIndex.Page page = productRankingService.page(ranking, candidates, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(findAllByIdsAsResponse(page.ids()), pageable, page.total());
+    }
+
+    // Keeps the order of ids and skips ids whose product no longer exists.
+    @Transactional(readOnly = true)
+    public List<ProductResponse> findAllByIdsAsResponse(List<Long> ids) {
+        List<Product> products = entityManager.unwrap(Session.class)
+                .byMultipleIds(Product.class)
+                .enableOrderedReturn(true)
+                .multiLoad(ids);
+        return products.stream().filter(Objects::nonNull).map(this::toProductResponse).collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public RoaringBitmap searchBitmap(String search) {
+        String normalized = TextNormalizer.normalize(search);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        return ProductFacetIndex.bitmapOf(productRepository.findIdsByNormalizedName(normalized));
+    }
+    
     @Override 
+    @Transactional(readOnly = true)
     public Product findById(Long id) { 
         return productRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Product not found with id: " + id)); 
     }
     
+    @Transactional(readOnly = true)
     public ProductResponse findByIdAsResponse(Long id) {
         Product product = findById(id);
         return toProductResponse(product);
@@ -83,10 +144,13 @@ public class ProductServiceImpl implements ProductService {
         Product newProduct = new Product();
         newProduct.setName(request.getName());
         newProduct.setDescription(request.getDescription());
-        newProduct.setPrice(request.getPrice());
+        newProduct.setPrice(Money.of(request.getPrice()));
         newProduct.setQuantity(request.getQuantity());
         newProduct.setCategory(category);
         newProduct.setImageUrl(imageUrl);
-        return productRepository.save(newProduct);
+        Product saved = productRepository.save(newProduct);
+        eventPublisher.publishEvent(ProductChangedEvent.of(List.of(saved.getId())));
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogVersions.Collection.PRODUCTS));
+        return saved;
     }
 }
@@ -0,0 +1,87 @@
+package com.data.backend.service.product.bulk;
+
+import com.data.backend.model.dto.response.ProductImportError;
+import com.data.backend.model.dto.response.ProductImportJobResponse;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Progress is written by the import thread and read by status polls.
+@Getter
+class ProductImportJob {
+    enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final String id;
+    private final String fileName;
+    private final int maxErrors;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile Status status = Status.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String message;
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsImported = new AtomicLong();
+    private final AtomicLong rowsFailed = new AtomicLong();
+    private final List<ProductImportError> errors = new ArrayList<>();
+
+    ProductImportJob(String id, String fileName, int maxErrors) {
+        this.id = id;
+        this.fileName = fileName;
+        this.maxErrors = maxErrors;
+    }
+
+    void started() {
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+    }
+
+    void read(int rows) {
+        rowsRead.addAndGet(rows);
+    }
+
+    void imported(int rows) {
+        rowsImported.addAndGet(rows);
+    }
+
+    void rejected(long line, String error) {
+        rowsFailed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add(new ProductImportError(line, error));
+            }
+        }
+    }
+
+    void finished(Status finalStatus, String finalMessage) {
+        message = finalMessage;
+        finishedAt = LocalDateTime.now();
+        status = finalStatus;
+    }
+
+    boolean isDone() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    ProductImportJobResponse toResponse() {
+        List<ProductImportError> snapshot;
+        synchronized (errors) {
+            snapshot = new ArrayList<>(errors);
+        }
+        return ProductImportJobResponse.builder()
+                .id(id)
+                .fileName(fileName)
+                .status(status.name())
+                .rowsRead(rowsRead.get())
+                .rowsImported(rowsImported.get())
+                .rowsFailed(rowsFailed.get())
+                .createdAt(createdAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .message(message)
+                .errors(snapshot)
+                .build();
+    }
+}
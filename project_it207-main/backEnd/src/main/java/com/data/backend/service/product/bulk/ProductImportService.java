@@ -0,0 +1,11 @@
+package com.data.backend.service.product.bulk;
+
+import com.data.backend.model.dto.response.ProductImportJobResponse;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+
+public interface ProductImportService {
+    ProductImportJobResponse start(MultipartFile file, String format) throws IOException;
+    ProductImportJobResponse status(String jobId);
+}
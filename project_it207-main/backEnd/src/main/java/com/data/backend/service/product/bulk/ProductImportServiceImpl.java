@@ -0,0 +1,338 @@
+package com.data.backend.service.product.bulk;
+
+import com.data.backend.model.dto.request.ProductImportRow;
+import com.data.backend.model.dto.response.ProductImportJobResponse;
+import com.data.backend.model.entity.Category;
+import com.data.backend.model.money.Money;
+import com.data.backend.model.text.TextNormalizer;
+import com.data.backend.repository.CategoryRepository;
+import com.data.backend.service.catalog.CatalogChangedEvent;
+import com.data.backend.service.catalog.CatalogVersions;
+import com.data.backend.service.catalog.ProductChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+// Uploads are spooled to a temp file and imported in the background: records are streamed in chunks,
+// each chunk is validated in parallel and its valid rows are written in one JDBC batch transaction.
+@Service
+@Slf4j
+public class ProductImportServiceImpl implements ProductImportService {
+    private static final String INSERT_SQL = "INSERT INTO products (name, description, price, quantity, category_id, image_url, created_at, updated_at, normalized_name) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    enum Format { CSV, JSONL }
+
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private Validator validator;
+    @Autowired private ApplicationEventPublisher eventPublisher;
+    @Autowired private ObjectMapper objectMapper;
+
+    @Value("${product_import_chunk_size:1000}")
+    private int chunkSize;
+
+    @Value("${product_import_max_errors:1000}")
+    private int maxErrors;
+
+    @Value("${product_import_retention:86400000}")
+    private long retentionMillis;
+
+    @Value("${product_import_concurrency:2}")
+    private int concurrency;
+
+    private final Map<String, ProductImportJob> jobs = new ConcurrentHashMap<>();
+    private final ForkJoinPool validationPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private ThreadPoolTaskExecutor importExecutor;
+
+    private record ParsedRow(long line, ProductImportRow row, String error) {
+    }
+
+    private record CheckedRow(long line, ProductImportRow row, Long categoryId, String error) {
+    }
+
+    private interface RowSource {
+        ParsedRow next() throws IOException;
+    }
+
+    @Override
+    public ProductImportJobResponse start(MultipartFile file, String format) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("Import file is empty.");
+        }
+        Format resolved = resolveFormat(format, file.getOriginalFilename());
+        // The multipart part is already on disk; moving it keeps it alive after the request ends.
+        Path spool = Files.createTempFile("product-import-", "." + resolved.name().toLowerCase(Locale.ROOT));
+        file.transferTo(spool);
+
+        ProductImportJob job = new ProductImportJob(UUID.randomUUID().toString(), file.getOriginalFilename(), maxErrors);
+        jobs.put(job.getId(), job);
+        try {
+            importExecutor.execute(() -> run(job, spool, resolved));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getId());
+            Files.deleteIfExists(spool);
+            throw new IllegalStateException("Too many imports in progress, try again later.");
+        }
+        return job.toResponse();
+    }
+
+    @Override
+    public ProductImportJobResponse status(String jobId) {
+        ProductImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new EntityNotFoundException("Import job not found with id: " + jobId);
+        }
+        return job.toResponse();
+    }
+
+    @Scheduled(fixedDelayString = "${product_import_sweep_interval:3600000}")
+    public void forgetFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(retentionMillis * 1_000_000L);
+        jobs.values().removeIf(job -> job.isDone() && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    // Each running import holds a connection per chunk, so only a few run at once and the rest are refused.
+    // Kept out of the context so Boot's applicationTaskExecutor still backs MVC async requests.
+    @PostConstruct
+    public void init() {
+        importExecutor = new ThreadPoolTaskExecutor();
+        importExecutor.setCorePoolSize(concurrency);
+        importExecutor.setMaxPoolSize(concurrency);
+        importExecutor.setQueueCapacity(concurrency * 4);
+        importExecutor.setThreadNamePrefix("product-import-");
+        importExecutor.setTaskDecorator(task -> {
+            Map<String, String> context = MDC.getCopyOfContextMap();
+            return () -> {
+                if (context != null) {
+                    MDC.setContextMap(context);
+                }
+                try {
+                    task.run();
+                } finally {
+                    MDC.clear();
+                }
+            };
+        });
+        importExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        importExecutor.shutdown();
+        validationPool.shutdownNow();
+    }
+
+    void run(ProductImportJob job, Path spool, Format format) {
+        job.started();
+        try (BufferedReader reader = Files.newBufferedReader(spool, StandardCharsets.UTF_8)) {
+            Map<String, Long> categories = categoryIndex();
+            RowSource source = format == Format.CSV ? csvSource(reader) : jsonLinesSource(reader);
+            List<ParsedRow> chunk = new ArrayList<>(chunkSize);
+            ParsedRow row;
+            while ((row = source.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    importChunk(job, chunk, categories);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(job, chunk, categories);
+            }
+            job.finished(ProductImportJob.Status.COMPLETED, null);
+            log.info("Product import {} finished: {} read, {} imported, {} rejected",
+                    job.getId(), job.getRowsRead().get(), job.getRowsImported().get(), job.getRowsFailed().get());
+        } catch (Exception e) {
+            job.finished(ProductImportJob.Status.FAILED, e.getMessage());
+            log.error("Product import {} failed after {} rows", job.getId(), job.getRowsRead().get(), e);
+        } finally {
+            // Generated ids are not read back from the batches, so indexes reload once per import.
+            if (job.getRowsImported().get() > 0) {
+                eventPublisher.publishEvent(ProductChangedEvent.all());
+            }
+            try {
+                Files.deleteIfExists(spool);
+            } catch (IOException e) {
+                log.warn("Could not delete import spool file {}", spool, e);
+            }
+        }
+    }
+
+    private void importChunk(ProductImportJob job, List<ParsedRow> chunk, Map<String, Long> categories) {
+        List<CheckedRow> checked = validationPool.submit(() -> chunk.parallelStream()
+                .map(row -> check(row, categories))
+                .toList()).join();
+        List<CheckedRow> valid = new ArrayList<>(checked.size());
+        for (CheckedRow row : checked) {
+            if (row.error() == null) {
+                valid.add(row);
+            } else {
+                job.rejected(row.line(), row.error());
+            }
+        }
+        if (!valid.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, valid, valid.size(), (ps, row) -> {
+                    ProductImportRow r = row.row();
+                    ps.setString(1, r.getName().trim());
+                    ps.setString(2, r.getDescription());
+                    ps.setBigDecimal(3, Money.of(r.getPrice()).toBigDecimal());
+                    ps.setInt(4, r.getQuantity());
+                    ps.setLong(5, row.categoryId());
+                    ps.setString(6, r.getImageUrl());
+                    ps.setTimestamp(7, now);
+                    ps.setTimestamp(8, now);
+                    ps.setString(9, TextNormalizer.normalize(r.getName()));
+                });
+                // New ids cannot be stale in the product cache region; only the listing ETags move.
+                eventPublisher.publishEvent(new CatalogChangedEvent(CatalogVersions.Collection.PRODUCTS));
+            });
+            job.imported(valid.size());
+        }
+        job.read(chunk.size());
+    }
+
+    private CheckedRow check(ParsedRow parsed, Map<String, Long> categories) {
+        if (parsed.error() != null) {
+            return new CheckedRow(parsed.line(), null, null, parsed.error());
+        }
+        ProductImportRow row = parsed.row();
+        Set<ConstraintViolation<ProductImportRow>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            String error = violations.stream()
+                    .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            return new CheckedRow(parsed.line(), null, null, error);
+        }
+        Long categoryId = categories.get(row.getCategory().trim().toLowerCase(Locale.ROOT));
+        if (categoryId == null) {
+            return new CheckedRow(parsed.line(), null, null, "Unknown category: " + row.getCategory());
+        }
+        return new CheckedRow(parsed.line(), row, categoryId, null);
+    }
+
+    // Both the display name and the url slug resolve, case-insensitively.
+    private Map<String, Long> categoryIndex() {
+        Map<String, Long> index = new HashMap<>();
+        for (Category category : categoryRepository.findAll()) {
+            index.put(category.getName().trim().toLowerCase(Locale.ROOT), category.getId());
+            if (category.getCategoryUrl() != null) {
+                index.put(category.getCategoryUrl().trim().toLowerCase(Locale.ROOT), category.getId());
+            }
+        }
+        return index;
+    }
+
+    private RowSource csvSource(BufferedReader reader) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file has no header row.");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).replace("﻿", "").trim().toLowerCase(Locale.ROOT).replace("_", "");
+            columns.put(name, i);
+        }
+        for (String required : List.of("name", "price", "quantity", "category")) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("CSV header is missing the '" + required + "' column.");
+            }
+        }
+        return () -> {
+            List<String> fields = csv.next();
+            if (fields == null) {
+                return null;
+            }
+            long line = csv.recordLine();
+            try {
+                ProductImportRow row = new ProductImportRow();
+                row.setName(field(fields, columns, "name"));
+                row.setDescription(field(fields, columns, "description"));
+                String price = field(fields, columns, "price");
+                row.setPrice(price == null ? null : new BigDecimal(price));
+                String quantity = field(fields, columns, "quantity");
+                row.setQuantity(quantity == null ? null : Integer.valueOf(quantity));
+                row.setCategory(field(fields, columns, "category"));
+                row.setImageUrl(field(fields, columns, "imageurl"));
+                return new ParsedRow(line, row, null);
+            } catch (NumberFormatException e) {
+                return new ParsedRow(line, null, "Invalid number: " + e.getMessage());
+            }
+        };
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private RowSource jsonLinesSource(BufferedReader reader) {
+        ObjectReader rowReader = objectMapper.readerFor(ProductImportRow.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        long[] lineNumber = {0};
+        return () -> {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber[0]++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    return new ParsedRow(lineNumber[0], rowReader.readValue(line), null);
+                } catch (JsonProcessingException e) {
+                    return new ParsedRow(lineNumber[0], null, "Invalid JSON: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        };
+    }
+
+    private static Format resolveFormat(String format, String fileName) {
+        String value = format != null ? format : fileName == null ? "" : fileName.substring(fileName.lastIndexOf('.') + 1);
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "csv" -> Format.CSV;
+            case "jsonl", "ndjson" -> Format.JSONL;
+            default -> throw new IllegalArgumentException("Unsupported import format '" + value + "', expected csv or jsonl.");
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package com.data.backend.service.product.facet;
+
+import java.util.Set;
+
+// Prices are in minor units; null or empty fields do not constrain.
+public record FacetFilter(Set<Long> categoryIds, Long minPrice, Long maxPrice, boolean inStock) {
+    public boolean isEmpty() {
+        return (categoryIds == null || categoryIds.isEmpty()) && minPrice == null && maxPrice == null && !inStock;
+    }
+}
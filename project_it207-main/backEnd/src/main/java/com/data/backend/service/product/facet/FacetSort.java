@@ -0,0 +1,3 @@
+package com.data.backend.service.product.facet;
+
+public enum FacetSort { ID_ASC, ID_DESC, PRICE_ASC, PRICE_DESC }
@@ -0,0 +1,276 @@
+package com.data.backend.service.product.facet;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntConsumer;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Compressed bitmaps of product ids per category, per price bucket and for in-stock products.
+// Filters are bitmap intersections and facet counts are AND-cardinalities, so neither touches the database.
+public class ProductFacetIndex {
+    public record Page(List<Long> ids, long total) {
+    }
+
+    public record Counts(long total, Map<Long, Long> categories, long[] priceBuckets, long inStock) {
+    }
+
+    private final long[] bucketBounds;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final RoaringBitmap inStock = new RoaringBitmap();
+    private final Map<Long, RoaringBitmap> byCategory = new HashMap<>();
+    private final RoaringBitmap[] byPrice;
+    // Indexed by product id (auto-increment keeps them dense) so an update knows which bitmaps to leave.
+    private long[] prices = new long[1024];
+    private long[] categories = new long[1024];
+
+    // bucketBounds are ascending lower bounds (minor units) of every bucket after the first.
+    public ProductFacetIndex(long[] bucketBounds) {
+        this.bucketBounds = bucketBounds.clone();
+        this.byPrice = new RoaringBitmap[bucketBounds.length + 1];
+        for (int i = 0; i < byPrice.length; i++) {
+            byPrice[i] = new RoaringBitmap();
+        }
+    }
+
+    public long[] getBucketBounds() {
+        return bucketBounds.clone();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return all.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void putAll(Iterable<ProductFacetRow> rows) {
+        lock.writeLock().lock();
+        try {
+            rows.forEach(this::put);
+            all.runOptimize();
+            inStock.runOptimize();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Ids without a row have been deleted.
+    public void apply(Collection<Long> ids, Collection<ProductFacetRow> rows) {
+        lock.writeLock().lock();
+        try {
+            ids.forEach(id -> remove(Math.toIntExact(id)));
+            rows.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Page page(FacetFilter filter, RoaringBitmap restrictTo, FacetSort sort, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = and(restrictTo, categoryMatches(filter.categoryIds()), priceMatches(filter.minPrice(), filter.maxPrice()),
+                    filter.inStock() ? inStock : null);
+            if (result == null) {
+                result = all;
+            }
+            long total = result.getLongCardinality();
+            List<Long> ids = new ArrayList<>(limit);
+            if (offset < total) {
+                switch (sort) {
+                    case ID_ASC -> {
+                        PeekableIntIterator it = result.getIntIterator();
+                        it.advanceIfNeeded(result.select((int) offset));
+                        while (it.hasNext() && ids.size() < limit) {
+                            ids.add((long) it.next());
+                        }
+                    }
+                    case ID_DESC -> {
+                        for (long rank = total - 1 - offset; rank >= 0 && ids.size() < limit; rank--) {
+                            ids.add((long) result.select((int) rank));
+                        }
+                    }
+                    case PRICE_ASC, PRICE_DESC -> pageByPrice(result, sort == FacetSort.PRICE_DESC, offset, limit, ids);
+                }
+            }
+            return new Page(ids, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // A private copy of the matching ids, for callers that order them some other way.
+    public RoaringBitmap matching(FacetFilter filter, RoaringBitmap restrictTo) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = and(restrictTo, categoryMatches(filter.categoryIds()), priceMatches(filter.minPrice(), filter.maxPrice()),
+                    filter.inStock() ? inStock : null);
+            return result == null ? all.clone() : result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Each facet is counted with every other constraint applied but its own, so the UI can show alternatives.
+    public Counts counts(FacetFilter filter, RoaringBitmap restrictTo) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap category = categoryMatches(filter.categoryIds());
+            RoaringBitmap price = priceMatches(filter.minPrice(), filter.maxPrice());
+            RoaringBitmap stock = filter.inStock() ? inStock : null;
+
+            RoaringBitmap result = and(restrictTo, category, price, stock);
+            RoaringBitmap forCategories = and(restrictTo, price, stock);
+            Map<Long, Long> categoryCounts = new LinkedHashMap<>();
+            byCategory.forEach((id, members) -> categoryCounts.put(id, cardinality(members, forCategories)));
+
+            RoaringBitmap forPrices = and(restrictTo, category, stock);
+            long[] priceCounts = new long[byPrice.length];
+            for (int b = 0; b < byPrice.length; b++) {
+                priceCounts[b] = cardinality(byPrice[b], forPrices);
+            }
+
+            long inStockCount = cardinality(inStock, and(restrictTo, category, price));
+            return new Counts(result == null ? all.getLongCardinality() : result.getLongCardinality(), categoryCounts, priceCounts, inStockCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static RoaringBitmap bitmapOf(Collection<Long> ids) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        ids.forEach(id -> bitmap.add(Math.toIntExact(id)));
+        return bitmap;
+    }
+
+    private void put(ProductFacetRow row) {
+        int id = Math.toIntExact(row.id());
+        remove(id);
+        ensureCapacity(id);
+        long price = row.price().getMinorUnits();
+        long category = row.categoryId() == null ? 0L : row.categoryId();
+        prices[id] = price;
+        categories[id] = category;
+        all.add(id);
+        byPrice[bucketOf(price)].add(id);
+        if (category != 0L) {
+            byCategory.computeIfAbsent(category, c -> new RoaringBitmap()).add(id);
+        }
+        if (row.quantity() != null && row.quantity() > 0) {
+            inStock.add(id);
+        }
+    }
+
+    private void remove(int id) {
+        if (!all.contains(id)) {
+            return;
+        }
+        all.remove(id);
+        inStock.remove(id);
+        byPrice[bucketOf(prices[id])].remove(id);
+        RoaringBitmap category = byCategory.get(categories[id]);
+        if (category != null) {
+            category.remove(id);
+            if (category.isEmpty()) {
+                byCategory.remove(categories[id]);
+            }
+        }
+    }
+
+    private void ensureCapacity(int id) {
+        if (id >= prices.length) {
+            int size = Math.max(id + 1, prices.length + (prices.length >> 1));
+            prices = Arrays.copyOf(prices, size);
+            categories = Arrays.copyOf(categories, size);
+        }
+    }
+
+    private int bucketOf(long price) {
+        int i = Arrays.binarySearch(bucketBounds, price);
+        return i >= 0 ? i + 1 : -(i + 1);
+    }
+
+    private RoaringBitmap categoryMatches(Set<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return null;
+        }
+        List<RoaringBitmap> members = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            RoaringBitmap bitmap = byCategory.get(id);
+            if (bitmap != null) {
+                members.add(bitmap);
+            }
+        }
+        return members.isEmpty() ? new RoaringBitmap() : FastAggregation.or(members.iterator());
+    }
+
+    // Whole buckets inside the range are OR-ed; the edge buckets are refined against the stored prices.
+    private RoaringBitmap priceMatches(Long min, Long max) {
+        if (min == null && max == null) {
+            return null;
+        }
+        long from = min == null ? Long.MIN_VALUE : min;
+        long to = max == null ? Long.MAX_VALUE : max;
+        RoaringBitmap matches = new RoaringBitmap();
+        for (int b = 0; b < byPrice.length; b++) {
+            long low = b == 0 ? Long.MIN_VALUE : bucketBounds[b - 1];
+            long high = b == bucketBounds.length ? Long.MAX_VALUE : bucketBounds[b] - 1;
+            if (high < from || low > to) {
+                continue;
+            }
+            if (from <= low && high <= to) {
+                matches.or(byPrice[b]);
+            } else {
+                byPrice[b].forEach((IntConsumer) id -> {
+                    if (prices[id] >= from && prices[id] <= to) {
+                        matches.add(id);
+                    }
+                });
+            }
+        }
+        return matches;
+    }
+
+    // Buckets are already in price order: skip whole buckets by cardinality and sort only the ones on the page.
+    private void pageByPrice(RoaringBitmap result, boolean descending, long offset, int limit, List<Long> ids) {
+        long skip = offset;
+        for (int i = 0; i < byPrice.length && ids.size() < limit; i++) {
+            RoaringBitmap bucket = byPrice[descending ? byPrice.length - 1 - i : i];
+            long inBucket = RoaringBitmap.andCardinality(bucket, result);
+            if (skip >= inBucket) {
+                skip -= inBucket;
+                continue;
+            }
+            Integer[] members = Arrays.stream(RoaringBitmap.and(bucket, result).toArray()).boxed().toArray(Integer[]::new);
+            Comparator<Integer> byPriceThenId = Comparator.<Integer>comparingLong(id -> prices[id]).thenComparingInt(id -> id);
+            Arrays.sort(members, descending ? byPriceThenId.reversed() : byPriceThenId);
+            for (int m = (int) skip; m < members.length && ids.size() < limit; m++) {
+                ids.add((long) members[m]);
+            }
+            skip = 0;
+        }
+    }
+
+    private static RoaringBitmap and(RoaringBitmap... constraints) {
+        RoaringBitmap result = null;
+        for (RoaringBitmap constraint : constraints) {
+            if (constraint != null) {
+                if (result == null) {
+                    result = constraint.clone();
+                } else {
+                    result.and(constraint);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static long cardinality(RoaringBitmap members, RoaringBitmap within) {
+        return within == null ? members.getLongCardinality() : RoaringBitmap.andCardinality(members, within);
+    }
+}
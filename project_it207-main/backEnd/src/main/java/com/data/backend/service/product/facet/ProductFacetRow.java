@@ -0,0 +1,6 @@
+package com.data.backend.service.product.facet;
+
+import com.data.backend.model.money.Money;
+
+public record ProductFacetRow(Long id, Long categoryId, Money price, Integer quantity) {
+}
@@ -0,0 +1,159 @@
+package com.data.backend.service.product.facet;
+
+import com.data.backend.model.dto.response.ProductFacetsResponse;
+import com.data.backend.model.entity.Category;
+import com.data.backend.model.money.Money;
+import com.data.backend.repository.CategoryRepository;
+import com.data.backend.repository.ProductRepository;
+import com.data.backend.service.catalog.CatalogChangedEvent;
+import com.data.backend.service.catalog.CatalogVersions;
+import com.data.backend.service.catalog.ProductChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+// Owns the facet index: built from the database at startup (or on first use) and patched after each
+// committed ProductChangedEvent, ahead of the ETag bump so a fresh tag never serves stale facets.
+@Service
+@Slf4j
+public class ProductFacetService {
+    @Autowired private ProductRepository productRepository;
+    @Autowired private CategoryRepository categoryRepository;
+
+    @Value("${facet_price_buckets:100000,200000,500000,1000000,2000000,5000000,10000000,20000000}")
+    private List<Long> priceBuckets;
+
+    private final TransactionTemplate readOnly;
+    private volatile ProductFacetIndex index;
+    private volatile Map<Long, String> categoryNames = Map.of();
+
+    public ProductFacetService(PlatformTransactionManager transactionManager) {
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    // A failed warm-up (e.g. a replica without the schema yet) is retried lazily on the first filtered request.
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Product facet index not built at startup: {}", e.getMessage());
+        }
+    }
+
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        long[] bounds = priceBuckets.stream().mapToLong(major -> Math.multiplyExact(major, Money.FACTOR)).sorted().toArray();
+        ProductFacetIndex fresh = new ProductFacetIndex(bounds);
+        readOnly.executeWithoutResult(status -> {
+            try (Stream<ProductFacetRow> rows = productRepository.streamFacetRows()) {
+                fresh.putAll(rows::iterator);
+            }
+        });
+        categoryNames = loadCategoryNames();
+        index = fresh;
+        log.info("Product facet index built: {} products in {} ms", fresh.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public synchronized void onProductChanged(ProductChangedEvent event) {
+        if (index == null) {
+            return;
+        }
+        if (event.isAll()) {
+            rebuild();
+            return;
+        }
+        index.apply(event.productIds(), productRepository.findFacetRows(event.productIds()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.collection() == CatalogVersions.Collection.CATEGORIES) {
+            categoryNames = loadCategoryNames();
+        }
+    }
+
+    public ProductFacetIndex.Page page(FacetFilter filter, RoaringBitmap restrictTo, Pageable pageable) {
+        return index().page(filter, restrictTo, sortOf(pageable.getSort()), pageable.getOffset(), pageable.getPageSize());
+    }
+
+    public RoaringBitmap matching(FacetFilter filter, RoaringBitmap restrictTo) {
+        return index().matching(filter, restrictTo);
+    }
+
+    public ProductFacetsResponse facets(FacetFilter filter, RoaringBitmap restrictTo) {
+        ProductFacetIndex current = index();
+        ProductFacetIndex.Counts counts = current.counts(filter, restrictTo);
+        Map<Long, String> names = categoryNames;
+
+        List<ProductFacetsResponse.CategoryFacet> categories = new ArrayList<>();
+        counts.categories().forEach((id, count) -> categories.add(new ProductFacetsResponse.CategoryFacet(id, names.get(id), count)));
+        categories.sort(Comparator.comparing(ProductFacetsResponse.CategoryFacet::getCount).reversed()
+                .thenComparing(ProductFacetsResponse.CategoryFacet::getId));
+
+        long[] bounds = current.getBucketBounds();
+        List<ProductFacetsResponse.PriceFacet> prices = new ArrayList<>(bounds.length + 1);
+        for (int b = 0; b <= bounds.length; b++) {
+            Money min = b == 0 ? Money.ZERO : Money.ofMinor(bounds[b - 1]);
+            Money max = b == bounds.length ? null : Money.ofMinor(bounds[b]);
+            prices.add(new ProductFacetsResponse.PriceFacet(min, max, counts.priceBuckets()[b]));
+        }
+        return ProductFacetsResponse.builder()
+                .total(counts.total())
+                .inStock(counts.inStock())
+                .categories(categories)
+                .prices(prices)
+                .build();
+    }
+
+    private ProductFacetIndex index() {
+        ProductFacetIndex current = index;
+        if (current == null) {
+            synchronized (this) {
+                if (index == null) {
+                    rebuild();
+                }
+                current = index;
+            }
+        }
+        return current;
+    }
+
+    private Map<Long, String> loadCategoryNames() {
+        Map<Long, String> names = new HashMap<>();
+        for (Category category : categoryRepository.findAll()) {
+            names.put(category.getId(), category.getName());
+        }
+        return names;
+    }
+
+    private static FacetSort sortOf(Sort sort) {
+        Sort.Order order = sort.stream().findFirst().orElse(null);
+        if (order == null) {
+            return FacetSort.ID_ASC;
+        }
+        return switch (order.getProperty()) {
+            case "id", "createdAt" -> order.isAscending() ? FacetSort.ID_ASC : FacetSort.ID_DESC;
+            case "price" -> order.isAscending() ? FacetSort.PRICE_ASC : FacetSort.PRICE_DESC;
+            default -> throw new IllegalArgumentException("Filtered products can only be sorted by id, createdAt or price.");
+        };
+    }
+}
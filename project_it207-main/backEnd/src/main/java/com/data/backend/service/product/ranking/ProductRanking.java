@@ -0,0 +1,27 @@
+package com.data.backend.service.product.ranking;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.Locale;
+
+public enum ProductRanking {
+    BESTSELLING, TRENDING;
+
+    public static ProductRanking parse(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    // The listing's sort=bestselling|trending; null when the request sorts by a column.
+    public static ProductRanking of(Sort sort) {
+        Sort.Order order = sort.stream().findFirst().orElse(null);
+        if (order == null) {
+            return null;
+        }
+        for (ProductRanking ranking : values()) {
+            if (ranking.name().equalsIgnoreCase(order.getProperty())) {
+                return ranking;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,308 @@
+package com.data.backend.service.product.ranking;
+
+import com.data.backend.repository.OrderRepository;
+import com.data.backend.service.order.OrderCancelledEvent;
+import com.data.backend.service.order.OrderLine;
+import com.data.backend.service.order.OrderPlacedEvent;
+import com.data.backend.service.product.facet.FacetFilter;
+import com.data.backend.service.product.facet.ProductFacetIndex;
+import com.data.backend.service.product.facet.ProductFacetService;
+import it.unimi.dsi.fastutil.longs.Long2DoubleMap;
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+// Best sellers (units over the last ranking_bestselling_days days) and trending products (views plus weighted sales
+// per hour over ranking_trending_hours, halving every ranking_trending_half_life_hours). Orders and product views
+// feed sliding-window counters in memory; rankings are recomputed every ranking_refresh_interval and the counters
+// are snapshotted to product_rank_buckets so a restart keeps the view counts. The first start seeds sales from orders.
+@Service
+@Slf4j
+public class ProductRankingService {
+    static final String SALES = "sales";
+    static final String ACTIVITY = "activity";
+    private static final long HOUR = 3_600_000L;
+    private static final long DAY = 24 * HOUR;
+
+    private record Ranked(long[] ids, RoaringBitmap members) {
+    }
+
+    @Autowired private OrderRepository orderRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private ProductFacetService productFacetService;
+
+    @Value("${ranking_bestselling_days:30}")
+    private int bestsellingDays;
+
+    @Value("${ranking_trending_hours:24}")
+    private int trendingHours;
+
+    @Value("${ranking_trending_half_life_hours:6}")
+    private double trendingHalfLifeHours;
+
+    @Value("${ranking_trending_sale_weight:5}")
+    private int saleWeight;
+
+    private final TransactionTemplate readOnly;
+    private final TransactionTemplate readWrite;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile SlidingWindowCounter sales;
+    private volatile SlidingWindowCounter activity;
+    private volatile Map<ProductRanking, Ranked> rankings = Map.of();
+
+    public ProductRankingService(PlatformTransactionManager transactionManager) {
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("Product rankings not loaded at startup: {}", e.getMessage());
+        }
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void onClose() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            log.warn("Product rankings not saved at shutdown: {}", e.getMessage());
+        }
+    }
+
+    // Replaces the counters with the last snapshot, or with the orders inside the window when there is none.
+    public synchronized void reload() {
+        long started = System.nanoTime();
+        long now = System.currentTimeMillis();
+        SlidingWindowCounter freshSales = new SlidingWindowCounter(DAY, bestsellingDays);
+        SlidingWindowCounter freshActivity = new SlidingWindowCounter(HOUR, trendingHours);
+        long[] loaded = new long[1];
+        jdbcTemplate.query("SELECT series, bucket_start, product_id, total FROM product_rank_buckets WHERE bucket_start >= ?", rs -> {
+            SlidingWindowCounter counter = SALES.equals(rs.getString(1)) ? freshSales : ACTIVITY.equals(rs.getString(1)) ? freshActivity : null;
+            long start = rs.getLong(2);
+            if (counter != null && start >= counter.windowStart(now)) {
+                counter.add(rs.getLong(3), rs.getLong(4), start);
+                loaded[0]++;
+            }
+        }, Math.min(freshSales.windowStart(now), freshActivity.windowStart(now)));
+        if (loaded[0] == 0) {
+            LocalDateTime since = LocalDateTime.ofInstant(Instant.ofEpochMilli(freshSales.windowStart(now)), ZoneId.systemDefault());
+            readOnly.executeWithoutResult(status -> {
+                try (Stream<ProductSale> rows = orderRepository.streamSalesSince(since)) {
+                    rows.forEach(sale -> {
+                        long at = millisOf(sale.orderDate(), now);
+                        count(freshSales, freshActivity, sale.productId(), sale.quantity(), at, now);
+                        loaded[0]++;
+                    });
+                }
+            });
+        }
+        sales = freshSales;
+        activity = freshActivity;
+        refresh();
+        log.info("Product rankings loaded from {} rows in {} ms", loaded[0], (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        record(event.orderDate(), event.lines(), 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onOrderCancelled(OrderCancelledEvent event) {
+        record(event.orderDate(), event.lines(), -1);
+    }
+
+    public void recordView(long productId) {
+        SlidingWindowCounter counter = activity;
+        if (counter != null) {
+            counter.add(productId, 1, System.currentTimeMillis());
+        }
+    }
+
+    // Changes only when some ranking's order did, so it can take part in an ETag.
+    public long generation() {
+        return generation.get();
+    }
+
+    @Scheduled(fixedDelayString = "${ranking_refresh_interval:60000}")
+    public void refresh() {
+        SlidingWindowCounter currentSales = sales;
+        SlidingWindowCounter currentActivity = activity;
+        if (currentSales == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        currentSales.seal(now);
+        currentActivity.seal(now);
+        double decay = Math.log(2) / trendingHalfLifeHours;
+        Map<ProductRanking, Ranked> fresh = new EnumMap<>(ProductRanking.class);
+        fresh.put(ProductRanking.BESTSELLING, rank(currentSales.scores(now, age -> 1)));
+        fresh.put(ProductRanking.TRENDING, rank(currentActivity.scores(now, age -> Math.exp(-decay * age))));
+        Map<ProductRanking, Ranked> previous = rankings;
+        boolean changed = fresh.entrySet().stream()
+                .anyMatch(e -> !previous.containsKey(e.getKey()) || !Arrays.equals(previous.get(e.getKey()).ids(), e.getValue().ids()));
+        rankings = fresh;
+        if (changed) {
+            generation.incrementAndGet();
+        }
+    }
+
+    // Writes the buckets changed since the last snapshot and drops the ones that left the window.
+    @Scheduled(fixedDelayString = "${ranking_snapshot_interval:300000}", initialDelayString = "${ranking_snapshot_interval:300000}")
+    public void snapshot() {
+        if (sales == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        snapshot(SALES, sales, now);
+        snapshot(ACTIVITY, activity, now);
+    }
+
+    // Ranked products among the candidates come first, in rank order; the unranked rest follow, newest first.
+    public ProductFacetIndex.Page page(ProductRanking ranking, RoaringBitmap candidates, long offset, int limit) {
+        Ranked ranked = ranked(ranking);
+        long total = candidates.getLongCardinality();
+        long rankedMatches = RoaringBitmap.andCardinality(candidates, ranked.members());
+        List<Long> ids = new ArrayList<>(limit);
+        if (offset < rankedMatches) {
+            long skipped = 0;
+            for (long id : ranked.ids()) {
+                if (!candidates.contains((int) id) || skipped++ < offset) {
+                    continue;
+                }
+                ids.add(id);
+                if (ids.size() == limit) {
+                    break;
+                }
+            }
+        }
+        if (ids.size() < limit && offset + ids.size() < total) {
+            RoaringBitmap rest = RoaringBitmap.andNot(candidates, ranked.members());
+            long restOffset = Math.max(0, offset - rankedMatches);
+            for (long r = rest.getLongCardinality() - 1 - restOffset; r >= 0 && ids.size() < limit; r--) {
+                ids.add((long) rest.select((int) r));
+            }
+        }
+        return new ProductFacetIndex.Page(ids, total);
+    }
+
+    // Only products that still exist and have a score.
+    public List<Long> top(ProductRanking ranking, int limit) {
+        RoaringBitmap existing = productFacetService.matching(new FacetFilter(null, null, null, false), null);
+        List<Long> ids = new ArrayList<>(limit);
+        for (long id : ranked(ranking).ids()) {
+            if (ids.size() == limit) {
+                break;
+            }
+            if (existing.contains((int) id)) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private Ranked ranked(ProductRanking ranking) {
+        if (sales == null) {
+            reload();
+        }
+        return rankings.get(ranking);
+    }
+
+    private void record(LocalDateTime orderDate, List<OrderLine> lines, int sign) {
+        SlidingWindowCounter currentSales = sales;
+        SlidingWindowCounter currentActivity = activity;
+        if (currentSales == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long at = millisOf(orderDate, now);
+        for (OrderLine line : lines) {
+            count(currentSales, currentActivity, line.productId(), sign * line.quantity(), at, now);
+        }
+    }
+
+    private void count(SlidingWindowCounter sales, SlidingWindowCounter activity, long productId, long units, long at, long now) {
+        if (at >= sales.windowStart(now)) {
+            sales.add(productId, units, at);
+        }
+        if (at >= activity.windowStart(now)) {
+            activity.add(productId, units * saleWeight, at);
+        }
+    }
+
+    private void snapshot(String series, SlidingWindowCounter counter, long now) {
+        List<SlidingWindowCounter.Snapshot> dirty = counter.dirty();
+        int[] rows = new int[1];
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM product_rank_buckets WHERE series = ? AND bucket_start < ?", series, counter.windowStart(now));
+            for (SlidingWindowCounter.Snapshot bucket : dirty) {
+                jdbcTemplate.update("DELETE FROM product_rank_buckets WHERE series = ? AND bucket_start = ?", series, bucket.start());
+                List<Object[]> batch = new ArrayList<>(bucket.productIds().length);
+                for (int i = 0; i < bucket.productIds().length; i++) {
+                    if (bucket.totals()[i] != 0) {
+                        batch.add(new Object[]{series, bucket.start(), bucket.productIds()[i], bucket.totals()[i]});
+                    }
+                }
+                jdbcTemplate.batchUpdate("INSERT INTO product_rank_buckets (series, bucket_start, product_id, total) VALUES (?, ?, ?, ?)", batch);
+                rows[0] += batch.size();
+            }
+        });
+        counter.persisted(dirty);
+        log.debug("Ranking series {}: {} buckets, {} rows written", series, dirty.size(), rows[0]);
+    }
+
+    private static Ranked rank(Long2DoubleOpenHashMap scores) {
+        LongArrayList ranked = new LongArrayList(scores.size());
+        ObjectIterator<Long2DoubleMap.Entry> cells = scores.long2DoubleEntrySet().fastIterator();
+        while (cells.hasNext()) {
+            Long2DoubleMap.Entry cell = cells.next();
+            if (cell.getDoubleValue() > 0) {
+                ranked.add(cell.getLongKey());
+            }
+        }
+        long[] ids = ranked.toLongArray();
+        LongArrays.quickSort(ids, (a, b) -> {
+            int c = Double.compare(scores.get(b), scores.get(a));
+            return c != 0 ? c : Long.compare(a, b);
+        });
+        RoaringBitmap members = new RoaringBitmap();
+        for (long id : ids) {
+            members.add((int) id);
+        }
+        return new Ranked(ids, members);
+    }
+
+    private static long millisOf(LocalDateTime time, long fallback) {
+        return time == null ? fallback : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,6 @@
+package com.data.backend.service.product.ranking;
+
+import java.time.LocalDateTime;
+
+public record ProductSale(Long productId, LocalDateTime orderDate, Integer quantity) {
+}
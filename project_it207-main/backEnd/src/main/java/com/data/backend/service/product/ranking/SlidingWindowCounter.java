@@ -0,0 +1,197 @@
+package com.data.backend.service.product.ranking;
+
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntToDoubleFunction;
+
+// Per-product counts over a sliding window of fixed time buckets kept in a ring. The current bucket takes writes
+// through LongAdders, so concurrent requests never contend on a lock; once its period is over it is sealed into a
+// primitive map. A bucket is replaced when its slot comes round again, which is what slides the window.
+public class SlidingWindowCounter {
+    public record Snapshot(long start, int version, long[] productIds, long[] totals) {
+    }
+
+    private static final class Bucket {
+        final long start;
+        volatile ConcurrentHashMap<Long, LongAdder> live = new ConcurrentHashMap<>();
+        Long2LongOpenHashMap sealed;
+        int version;
+        int persistedVersion;
+
+        Bucket(long start) {
+            this.start = start;
+        }
+    }
+
+    private final long bucketMillis;
+    private final AtomicReferenceArray<Bucket> ring;
+
+    public SlidingWindowCounter(long bucketMillis, int buckets) {
+        this.bucketMillis = bucketMillis;
+        this.ring = new AtomicReferenceArray<>(buckets);
+    }
+
+    public long getBucketMillis() {
+        return bucketMillis;
+    }
+
+    // Counts land in the bucket of `at`. Callers keep `at` inside the window; a slot already reused by a later bucket
+    // drops the count.
+    public void add(long productId, long delta, long at) {
+        Bucket bucket = bucketFor(startOf(at));
+        if (bucket == null) {
+            return;
+        }
+        // An increment racing the seal at a bucket boundary can be lost; rankings tolerate that.
+        ConcurrentHashMap<Long, LongAdder> live = bucket.live;
+        if (live != null) {
+            LongAdder adder = live.get(productId);
+            if (adder == null) {
+                adder = live.computeIfAbsent(productId, id -> new LongAdder());
+            }
+            adder.add(delta);
+            return;
+        }
+        synchronized (bucket) {
+            bucket.sealed.addTo(productId, delta);
+            bucket.version++;
+        }
+    }
+
+    // Freezes every bucket whose period ended before `now`.
+    public void seal(long now) {
+        long current = startOf(now);
+        for (int slot = 0; slot < ring.length(); slot++) {
+            Bucket bucket = ring.get(slot);
+            if (bucket == null || bucket.start >= current) {
+                continue;
+            }
+            synchronized (bucket) {
+                if (bucket.live != null) {
+                    Long2LongOpenHashMap sealed = new Long2LongOpenHashMap(bucket.live.size());
+                    bucket.live.forEach((id, adder) -> sealed.put(id.longValue(), adder.sum()));
+                    bucket.sealed = sealed;
+                    bucket.live = null;
+                    bucket.version++;
+                }
+            }
+        }
+    }
+
+    // Sums every bucket still inside the window at `now`, weighted by its age in buckets (0 = current).
+    public Long2DoubleOpenHashMap scores(long now, IntToDoubleFunction weightByAge) {
+        long current = startOf(now);
+        Long2DoubleOpenHashMap scores = new Long2DoubleOpenHashMap();
+        for (int slot = 0; slot < ring.length(); slot++) {
+            Bucket bucket = ring.get(slot);
+            if (bucket == null) {
+                continue;
+            }
+            long age = (current - bucket.start) / bucketMillis;
+            if (age < 0 || age >= ring.length()) {
+                continue;
+            }
+            double weight = weightByAge.applyAsDouble((int) age);
+            ConcurrentHashMap<Long, LongAdder> live = bucket.live;
+            if (live != null) {
+                live.forEach((id, adder) -> scores.addTo(id.longValue(), weight * adder.sum()));
+                continue;
+            }
+            synchronized (bucket) {
+                ObjectIterator<Long2LongMap.Entry> cells = bucket.sealed.long2LongEntrySet().fastIterator();
+                while (cells.hasNext()) {
+                    Long2LongMap.Entry cell = cells.next();
+                    scores.addTo(cell.getLongKey(), weight * cell.getLongValue());
+                }
+            }
+        }
+        return scores;
+    }
+
+    // Live buckets are always included; sealed ones only when changed since they were last persisted.
+    public List<Snapshot> dirty() {
+        List<Snapshot> snapshots = new ArrayList<>();
+        for (int slot = 0; slot < ring.length(); slot++) {
+            Bucket bucket = ring.get(slot);
+            if (bucket == null) {
+                continue;
+            }
+            ConcurrentHashMap<Long, LongAdder> live = bucket.live;
+            if (live != null) {
+                LongArrayList ids = new LongArrayList(live.size());
+                LongArrayList totals = new LongArrayList(live.size());
+                live.forEach((id, adder) -> {
+                    ids.add(id.longValue());
+                    totals.add(adder.sum());
+                });
+                snapshots.add(new Snapshot(bucket.start, -1, ids.toLongArray(), totals.toLongArray()));
+                continue;
+            }
+            synchronized (bucket) {
+                if (bucket.version != bucket.persistedVersion) {
+                    long[] ids = new long[bucket.sealed.size()];
+                    long[] totals = new long[ids.length];
+                    int i = 0;
+                    ObjectIterator<Long2LongMap.Entry> cells = bucket.sealed.long2LongEntrySet().fastIterator();
+                    while (cells.hasNext()) {
+                        Long2LongMap.Entry cell = cells.next();
+                        ids[i] = cell.getLongKey();
+                        totals[i++] = cell.getLongValue();
+                    }
+                    snapshots.add(new Snapshot(bucket.start, bucket.version, ids, totals));
+                }
+            }
+        }
+        return snapshots;
+    }
+
+    public void persisted(List<Snapshot> snapshots) {
+        for (Snapshot snapshot : snapshots) {
+            Bucket bucket = ring.get(slotOf(snapshot.start()));
+            if (snapshot.version() < 0 || bucket == null || bucket.start != snapshot.start()) {
+                continue;
+            }
+            synchronized (bucket) {
+                bucket.persistedVersion = snapshot.version();
+            }
+        }
+    }
+
+    // Oldest bucket start that is still inside the window at `now`.
+    public long windowStart(long now) {
+        return startOf(now) - (ring.length() - 1) * bucketMillis;
+    }
+
+    private long startOf(long at) {
+        return at - Math.floorMod(at, bucketMillis);
+    }
+
+    private int slotOf(long start) {
+        return (int) Math.floorMod(start / bucketMillis, (long) ring.length());
+    }
+
+    private Bucket bucketFor(long start) {
+        int slot = slotOf(start);
+        while (true) {
+            Bucket bucket = ring.get(slot);
+            if (bucket != null && bucket.start == start) {
+                return bucket;
+            }
+            if (bucket != null && bucket.start > start) {
+                return null;
+            }
+            if (ring.compareAndSet(slot, bucket, new Bucket(start))) {
+                return ring.get(slot);
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.data.backend.service.product.related;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Sparse, symmetric product x product matrix of "bought in the same order" counts. Rows and cells are primitive
+// long->int maps, so a few million pairs cost no boxing. Each product's best partners are kept precomputed; counts
+// only grow, so an order just moves the partners it incremented up their rows' lists.
+public class CoPurchaseIndex {
+    private static final long[] NONE = new long[0];
+
+    private final int topK;
+    private final int minSupport;
+    private final int maxItemsPerOrder;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Long2ObjectOpenHashMap<Long2IntOpenHashMap> counts = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<long[]> top = new Long2ObjectOpenHashMap<>();
+    private long orders;
+    private long cells;
+
+    public CoPurchaseIndex(int topK, int minSupport, int maxItemsPerOrder) {
+        this.topK = topK;
+        this.minSupport = minSupport;
+        this.maxItemsPerOrder = maxItemsPerOrder;
+    }
+
+    public void addOrder(long[] productIds) {
+        long[] ids = distinct(productIds);
+        if (ids.length < 2) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            count(ids, true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Bulk path for a fresh, unpublished index: counts only, ranked once by rankAll().
+    public void load(long[] productIds) {
+        long[] ids = distinct(productIds);
+        if (ids.length >= 2) {
+            count(ids, false);
+        }
+    }
+
+    public void rankAll() {
+        lock.writeLock().lock();
+        try {
+            top.clear();
+            ObjectIterator<Long2ObjectOpenHashMap.Entry<Long2IntOpenHashMap>> rows = counts.long2ObjectEntrySet().fastIterator();
+            while (rows.hasNext()) {
+                Long2ObjectOpenHashMap.Entry<Long2IntOpenHashMap> row = rows.next();
+                top.put(row.getLongKey(), rank(row.getValue()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long[] top(long productId, int limit) {
+        lock.readLock().lock();
+        try {
+            long[] ranked = top.getOrDefault(productId, NONE);
+            return ranked.length <= limit ? ranked : Arrays.copyOf(ranked, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    public long orders() {
+        return orders;
+    }
+
+    public long cells() {
+        return cells;
+    }
+
+    public int products() {
+        return counts.size();
+    }
+
+    private void count(long[] ids, boolean promote) {
+        orders++;
+        for (long a : ids) {
+            Long2IntOpenHashMap row = counts.get(a);
+            if (row == null) {
+                row = new Long2IntOpenHashMap(4);
+                counts.put(a, row);
+            }
+            for (long b : ids) {
+                if (a == b) {
+                    continue;
+                }
+                int previous = row.addTo(b, 1);
+                if (previous == 0) {
+                    cells++;
+                }
+                if (promote && previous + 1 >= minSupport) {
+                    promote(a, row, b, previous + 1);
+                }
+            }
+        }
+    }
+
+    // Only b's score in row a changed, so the list either already holds b (move it up) or b displaces the last entry.
+    private void promote(long a, Long2IntOpenHashMap row, long b, int score) {
+        long[] ranked = top.getOrDefault(a, NONE);
+        int at = -1;
+        for (int i = 0; i < ranked.length; i++) {
+            if (ranked[i] == b) {
+                at = i;
+                break;
+            }
+        }
+        if (at < 0) {
+            if (ranked.length < topK) {
+                ranked = Arrays.copyOf(ranked, ranked.length + 1);
+            } else if (!better(score, b, row.get(ranked[ranked.length - 1]), ranked[ranked.length - 1])) {
+                return;
+            } else {
+                ranked = ranked.clone();
+            }
+            at = ranked.length - 1;
+        } else {
+            ranked = ranked.clone();
+        }
+        while (at > 0 && better(score, b, row.get(ranked[at - 1]), ranked[at - 1])) {
+            ranked[at] = ranked[at - 1];
+            at--;
+        }
+        ranked[at] = b;
+        top.put(a, ranked);
+    }
+
+    // Keeps the topK partners with the highest counts (ties: lower id first) by insertion into a small sorted buffer.
+    private long[] rank(Long2IntOpenHashMap row) {
+        long[] ids = new long[topK];
+        int[] scores = new int[topK];
+        int size = 0;
+        ObjectIterator<Long2IntMap.Entry> cells = row.long2IntEntrySet().fastIterator();
+        while (cells.hasNext()) {
+            Long2IntMap.Entry cell = cells.next();
+            int score = cell.getIntValue();
+            long id = cell.getLongKey();
+            if (score < minSupport || (size == topK && !better(score, id, scores[size - 1], ids[size - 1]))) {
+                continue;
+            }
+            int at = size == topK ? topK - 1 : size++;
+            while (at > 0 && better(score, id, scores[at - 1], ids[at - 1])) {
+                scores[at] = scores[at - 1];
+                ids[at] = ids[at - 1];
+                at--;
+            }
+            scores[at] = score;
+            ids[at] = id;
+        }
+        return Arrays.copyOf(ids, size);
+    }
+
+    private static boolean better(int score, long id, int otherScore, long otherId) {
+        return score > otherScore || (score == otherScore && id < otherId);
+    }
+
+    // Very large orders (resellers, office supplies) would add n^2 weak pairs, so only the first items count.
+    private long[] distinct(long[] productIds) {
+        LongOpenHashSet seen = new LongOpenHashSet(productIds.length);
+        long[] ids = new long[Math.min(productIds.length, maxItemsPerOrder)];
+        int size = 0;
+        for (long id : productIds) {
+            if (size == ids.length) {
+                break;
+            }
+            if (seen.add(id)) {
+                ids[size++] = id;
+            }
+        }
+        return size == ids.length ? ids : Arrays.copyOf(ids, size);
+    }
+}
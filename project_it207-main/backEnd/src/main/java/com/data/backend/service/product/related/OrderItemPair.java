@@ -0,0 +1,4 @@
+package com.data.backend.service.product.related;
+
+public record OrderItemPair(Long orderId, Long productId) {
+}
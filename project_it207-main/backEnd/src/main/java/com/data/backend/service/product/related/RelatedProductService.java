@@ -0,0 +1,139 @@
+package com.data.backend.service.product.related;
+
+import com.data.backend.repository.OrderRepository;
+import com.data.backend.service.order.OrderPlacedEvent;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+// "Frequently bought together": every order adds to the co-purchase matrix after it commits, and a periodic rebuild
+// streams order_items from scratch so the counts never drift from the table.
+@Service
+@Slf4j
+public class RelatedProductService {
+    @Autowired private OrderRepository orderRepository;
+
+    @Value("${related_top_k:20}")
+    private int topK;
+
+    @Value("${related_min_support:1}")
+    private int minSupport;
+
+    @Value("${related_max_items_per_order:50}")
+    private int maxItemsPerOrder;
+
+    private final TransactionTemplate readOnly;
+    private final Object rebuildLock = new Object();
+    private volatile CoPurchaseIndex index;
+    private List<OrderPlacedEvent> placedDuringRebuild;
+
+    public RelatedProductService(PlatformTransactionManager transactionManager) {
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Related products not built at startup: {}", e.getMessage());
+        }
+    }
+
+    // Orders placed while the scan runs are replayed afterwards unless the scan already saw them.
+    @Scheduled(fixedDelayString = "${related_rebuild_interval:21600000}", initialDelayString = "${related_rebuild_interval:21600000}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long started = System.nanoTime();
+            synchronized (this) {
+                placedDuringRebuild = new ArrayList<>();
+            }
+            try {
+                CoPurchaseIndex fresh = new CoPurchaseIndex(topK, minSupport, maxItemsPerOrder);
+                LongOpenHashSet scanned = new LongOpenHashSet();
+                readOnly.executeWithoutResult(status -> {
+                    try (Stream<OrderItemPair> rows = orderRepository.streamItemPairs()) {
+                        load(fresh, scanned, rows.iterator());
+                    }
+                });
+                fresh.rankAll();
+                synchronized (this) {
+                    for (OrderPlacedEvent placed : placedDuringRebuild) {
+                        if (!scanned.contains(placed.orderId().longValue())) {
+                            fresh.addOrder(toArray(placed.productIds()));
+                        }
+                    }
+                    index = fresh;
+                }
+                log.info("Related products built: {} orders, {} products, {} pairs in {} ms", fresh.orders(), fresh.products(),
+                        fresh.cells() / 2, (System.nanoTime() - started) / 1_000_000);
+            } finally {
+                synchronized (this) {
+                    placedDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        synchronized (this) {
+            if (index != null) {
+                index.addOrder(toArray(event.productIds()));
+            }
+            if (placedDuringRebuild != null) {
+                placedDuringRebuild.add(event);
+            }
+        }
+    }
+
+    public long[] related(long productId, int limit) {
+        if (index == null) {
+            rebuild();
+        }
+        return index.top(productId, limit);
+    }
+
+    // Rows arrive ordered by order id, so an order's items are contiguous.
+    private static void load(CoPurchaseIndex fresh, LongOpenHashSet scanned, Iterator<OrderItemPair> rows) {
+        LongArrayList items = new LongArrayList();
+        long current = Long.MIN_VALUE;
+        while (rows.hasNext()) {
+            OrderItemPair row = rows.next();
+            if (row.orderId() != current) {
+                fresh.load(items.toLongArray());
+                items.clear();
+                current = row.orderId();
+                scanned.add(current);
+            }
+            items.add(row.productId().longValue());
+        }
+        fresh.load(items.toLongArray());
+    }
+
+    private static long[] toArray(List<Long> productIds) {
+        long[] ids = new long[productIds.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = productIds.get(i);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,143 @@
+package com.data.backend.service.product.suggest;
+
+import com.data.backend.model.dto.response.SuggestionResponse;
+import com.data.backend.repository.CategoryRepository;
+import com.data.backend.repository.ProductRepository;
+import com.data.backend.service.catalog.CatalogChangedEvent;
+import com.data.backend.service.catalog.CatalogVersions;
+import com.data.backend.service.catalog.ProductChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+// Product and category name suggestions ranked by units sold / products per category. Committed product changes go
+// into the index overlay; the overlay is folded into a fresh build once it grows past suggest_overlay_max.
+@Service
+@Slf4j
+public class ProductSuggestService {
+    private static final int MAX_QUERY_LENGTH = 64;
+
+    @Autowired private ProductRepository productRepository;
+    @Autowired private CategoryRepository categoryRepository;
+
+    @Value("${suggest_overlay_max:2000}")
+    private int overlayMax;
+
+    @Value("${suggest_category_limit:3}")
+    private int categoryLimit;
+
+    private final TransactionTemplate readOnly;
+    private final Object rebuildLock = new Object();
+    private volatile SuggestIndex products;
+    private volatile SuggestIndex categories;
+    private Set<Long> changedDuringRebuild;
+
+    public ProductSuggestService(PlatformTransactionManager transactionManager) {
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Suggest index not built at startup: {}", e.getMessage());
+        }
+    }
+
+    // The scan runs without blocking incremental updates; ids changed meanwhile are reloaded into the new overlay.
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long started = System.nanoTime();
+            synchronized (this) {
+                changedDuringRebuild = new HashSet<>();
+            }
+            try {
+                SuggestIndex freshProducts = readOnly.execute(status -> {
+                    try (Stream<SuggestRow> rows = productRepository.streamSuggestRows()) {
+                        return SuggestIndex.build(rows.toList());
+                    }
+                });
+                SuggestIndex freshCategories = SuggestIndex.build(categoryRepository.findSuggestRows());
+                synchronized (this) {
+                    if (!changedDuringRebuild.isEmpty()) {
+                        freshProducts.apply(changedDuringRebuild, productRepository.findSuggestRows(changedDuringRebuild));
+                    }
+                    products = freshProducts;
+                    categories = freshCategories;
+                }
+                log.info("Suggest index built: {} products, {} KB in {} ms", freshProducts.size(),
+                        freshProducts.memoryBytes() / 1024, (System.nanoTime() - started) / 1_000_000);
+            } finally {
+                synchronized (this) {
+                    changedDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (products == null) {
+            return;
+        }
+        if (event.isAll()) {
+            rebuild();
+            return;
+        }
+        synchronized (this) {
+            products.apply(event.productIds(), productRepository.findSuggestRows(event.productIds()));
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.addAll(event.productIds());
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (categories != null && event.collection() == CatalogVersions.Collection.CATEGORIES) {
+            categories = SuggestIndex.build(categoryRepository.findSuggestRows());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${suggest_compact_interval:60000}")
+    public void compact() {
+        SuggestIndex current = products;
+        if (current != null && current.overlaySize() > overlayMax) {
+            rebuild();
+        }
+    }
+
+    public List<SuggestionResponse> suggest(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        if (products == null) {
+            rebuild();
+        }
+        String prefix = query.length() > MAX_QUERY_LENGTH ? query.substring(0, MAX_QUERY_LENGTH) : query;
+        List<SuggestionResponse> suggestions = new ArrayList<>(limit);
+        for (SuggestIndex.Match match : categories.top(prefix, Math.min(categoryLimit, limit / 2))) {
+            suggestions.add(new SuggestionResponse(SuggestionResponse.Type.CATEGORY, match.id(), match.name()));
+        }
+        for (SuggestIndex.Match match : products.top(prefix, limit - suggestions.size())) {
+            suggestions.add(new SuggestionResponse(SuggestionResponse.Type.PRODUCT, match.id(), match.name()));
+        }
+        return suggestions;
+    }
+}
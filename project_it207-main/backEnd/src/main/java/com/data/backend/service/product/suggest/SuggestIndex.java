@@ -0,0 +1,345 @@
+package com.data.backend.service.product.suggest;
+
+import com.data.backend.model.text.TextNormalizer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// Typeahead over names. Names in search form (TextNormalizer) share one UTF-8 byte pool and every word start is an
+// entry, sorted by the text that follows it, so a prefix is a binary search to a contiguous run of entries. The best-k
+// of a run come from a max-tree over blocks of entries, walked best-first. Rows changed since the build sit in a small
+// overlay, keyed the same way, that shadows the built data until the next rebuild.
+public class SuggestIndex {
+    public record Match(long id, String name, int score) {
+    }
+
+    private record Pending(long id, String name, String folded, int score) {
+    }
+
+    private static final int BLOCK = 32;
+    private static final long NODE = 1L << 31;
+    private static final Comparator<Match> BY_SCORE = Comparator.comparingInt(Match::score).reversed().thenComparingLong(Match::id);
+
+    private final long[] ids;
+    private final int[] scores;
+    private final int[] textStarts;
+    private final byte[] text;
+    private final int[] nameStarts;
+    private final byte[] names;
+    private final int[] entries;
+    private final int[] entryScores;
+    private final int[] tree;
+    private final int leaves;
+    private final Map<Long, Pending> overlay = new ConcurrentHashMap<>();
+    private final NavigableMap<String, Pending> overlayWords = new ConcurrentSkipListMap<>();
+
+    private SuggestIndex(long[] ids, int[] scores, int[] textStarts, byte[] text, int[] nameStarts, byte[] names, int[] entries) {
+        this.ids = ids;
+        this.scores = scores;
+        this.textStarts = textStarts;
+        this.text = text;
+        this.nameStarts = nameStarts;
+        this.names = names;
+        this.entries = entries;
+        // Scores copied per entry so walking a block never has to search for the owning row.
+        this.entryScores = new int[entries.length];
+        for (int e = 0; e < entries.length; e++) {
+            entryScores[e] = scores[docOf(entries[e])];
+        }
+        int blocks = (entries.length + BLOCK - 1) / BLOCK;
+        this.leaves = blocks <= 1 ? 1 : Integer.highestOneBit(blocks - 1) << 1;
+        this.tree = new int[2 * leaves];
+        for (int e = 0; e < entries.length; e++) {
+            int leaf = leaves + e / BLOCK;
+            tree[leaf] = Math.max(tree[leaf], entryScores[e]);
+        }
+        for (int n = leaves - 1; n > 0; n--) {
+            tree[n] = Math.max(tree[2 * n], tree[2 * n + 1]);
+        }
+    }
+
+    public static SuggestIndex build(Collection<SuggestRow> rows) {
+        List<SuggestRow> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparing(SuggestRow::id));
+        int n = sorted.size();
+        long[] ids = new long[n];
+        int[] scores = new int[n];
+        int[] textStarts = new int[n + 1];
+        int[] nameStarts = new int[n + 1];
+        Bytes text = new Bytes();
+        Bytes names = new Bytes();
+        Ints entries = new Ints();
+        for (int i = 0; i < n; i++) {
+            SuggestRow row = sorted.get(i);
+            ids[i] = row.id();
+            scores[i] = clamp(row.popularity());
+            textStarts[i] = text.size;
+            byte[] folded = TextNormalizer.normalize(row.name()).getBytes(StandardCharsets.UTF_8);
+            for (int b = 0; b < folded.length; b++) {
+                if (b == 0 || folded[b - 1] == ' ') {
+                    entries.add(text.size + b);
+                }
+            }
+            text.add(folded);
+            text.add(new byte[]{0});
+            nameStarts[i] = names.size;
+            names.add(row.name() == null ? new byte[0] : row.name().getBytes(StandardCharsets.UTF_8));
+        }
+        textStarts[n] = text.size;
+        nameStarts[n] = names.size;
+        byte[] pool = text.toArray();
+        return new SuggestIndex(ids, scores, textStarts, pool, nameStarts, names.toArray(), sortSuffixes(pool, entries.toArray()));
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public int overlaySize() {
+        return overlay.size();
+    }
+
+    public long memoryBytes() {
+        return 8L * ids.length + 4L * (scores.length + textStarts.length + nameStarts.length + entries.length + entryScores.length + tree.length)
+                + text.length + names.length;
+    }
+
+    // Ids without a row have been deleted. Callers serialize updates; readers may run concurrently.
+    public void apply(Collection<Long> changedIds, Collection<SuggestRow> rows) {
+        Map<Long, SuggestRow> byId = new HashMap<>();
+        rows.forEach(row -> byId.put(row.id(), row));
+        for (Long id : changedIds) {
+            SuggestRow row = byId.get(id);
+            Pending pending = row == null
+                    ? new Pending(id, null, null, 0)
+                    : new Pending(id, row.name(), TextNormalizer.normalize(row.name()), clamp(row.popularity()));
+            Pending previous = overlay.put(id, pending);
+            if (previous != null) {
+                wordKeys(previous).forEach(overlayWords::remove);
+            }
+            wordKeys(pending).forEach(key -> overlayWords.put(key, pending));
+        }
+    }
+
+    public List<Match> top(String query, int limit) {
+        String prefix = TextNormalizer.normalize(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        List<Match> matches = topBuilt(prefix.getBytes(StandardCharsets.UTF_8), limit);
+        if (overlay.isEmpty()) {
+            return matches;
+        }
+        // Short prefixes can match much of the overlay, so only the best `limit` are kept while scanning.
+        PriorityQueue<Match> best = new PriorityQueue<>(BY_SCORE.reversed());
+        best.addAll(matches);
+        Set<Long> seen = new HashSet<>();
+        for (Pending pending : overlayWords.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            if ((best.size() < limit || pending.score() > best.peek().score()) && seen.add(pending.id())) {
+                best.add(new Match(pending.id(), pending.name(), pending.score()));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        }
+        List<Match> merged = new ArrayList<>(best);
+        merged.sort(BY_SCORE);
+        return merged;
+    }
+
+    private List<Match> topBuilt(byte[] prefix, int limit) {
+        int from = bound(prefix, false);
+        int to = bound(prefix, true);
+        List<Match> matches = new ArrayList<>(limit);
+        if (from >= to) {
+            return matches;
+        }
+        // Heap items pack score, a node/entry flag and the index, so the best item is the largest long.
+        PriorityQueue<Long> heap = new PriorityQueue<>(Comparator.reverseOrder());
+        heap.add(item(tree[1], true, 1));
+        Set<Integer> seen = new HashSet<>();
+        while (!heap.isEmpty() && matches.size() < limit) {
+            long item = heap.poll();
+            int index = Integer.MAX_VALUE - (int) (item & (NODE - 1));
+            if ((item & NODE) == 0) {
+                int doc = docOf(entries[index]);
+                if (seen.add(doc) && !overlay.containsKey(ids[doc])) {
+                    matches.add(new Match(ids[doc], name(doc), scores[doc]));
+                }
+                continue;
+            }
+            int depth = 31 - Integer.numberOfLeadingZeros(index);
+            int span = leaves >> depth;
+            int first = (index - (1 << depth)) * span * BLOCK;
+            int lo = Math.max(from, first);
+            int hi = Math.min(to, first + span * BLOCK);
+            if (lo >= hi) {
+                continue;
+            }
+            if (span == 1) {
+                for (int e = lo; e < hi; e++) {
+                    heap.add(item(entryScores[e], false, e));
+                }
+            } else {
+                heap.add(item(tree[2 * index], true, 2 * index));
+                heap.add(item(tree[2 * index + 1], true, 2 * index + 1));
+            }
+        }
+        return matches;
+    }
+
+    // One key per word start: the rest of the name from that word, then the id to keep keys unique.
+    private static List<String> wordKeys(Pending pending) {
+        if (pending.name() == null) {
+            return List.of();
+        }
+        String folded = pending.folded();
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < folded.length(); i++) {
+            if (i == 0 || folded.charAt(i - 1) == ' ') {
+                keys.add(folded.substring(i) + '\u0000' + pending.id());
+            }
+        }
+        return keys;
+    }
+
+    private static long item(int score, boolean node, int index) {
+        return (long) score << 32 | (node ? NODE : 0) | (Integer.MAX_VALUE - index);
+    }
+
+    // First entry whose text is >= prefix (or > prefix when upper), comparing only the prefix length.
+    private int bound(byte[] prefix, boolean upper) {
+        int lo = 0;
+        int hi = entries.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int c = comparePrefix(entries[mid], prefix);
+            if (c < 0 || (upper && c == 0)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private int comparePrefix(int position, byte[] prefix) {
+        for (int i = 0; i < prefix.length; i++) {
+            int t = text[position + i] & 0xff;
+            if (t == 0) {
+                return -1;
+            }
+            int c = t - (prefix[i] & 0xff);
+            if (c != 0) {
+                return c;
+            }
+        }
+        return 0;
+    }
+
+    private int docOf(int position) {
+        int i = Arrays.binarySearch(textStarts, position);
+        return i >= 0 ? i : -i - 2;
+    }
+
+    private String name(int doc) {
+        return new String(names, nameStarts[doc], nameStarts[doc + 1] - nameStarts[doc], StandardCharsets.UTF_8);
+    }
+
+    private static int clamp(Long popularity) {
+        return popularity == null ? 0 : (int) Math.max(0, Math.min(Integer.MAX_VALUE, popularity));
+    }
+
+    // Sorts on the first four bytes packed into a long (sign bit flipped so bytes compare unsigned), then settles ties
+    // with a full comparison.
+    private static int[] sortSuffixes(byte[] text, int[] positions) {
+        long[] keys = new long[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            keys[i] = ((head(text, positions[i]) ^ 0x80000000L) << 32) | positions[i];
+        }
+        Arrays.sort(keys);
+        int[] sorted = new int[positions.length];
+        for (int i = 0; i < keys.length; i++) {
+            sorted[i] = (int) keys[i];
+        }
+        for (int start = 0; start < keys.length; ) {
+            int end = start + 1;
+            while (end < keys.length && keys[end] >>> 32 == keys[start] >>> 32) {
+                end++;
+            }
+            if (end - start > 1 && (keys[start] >>> 32 & 0xff) != 0) {
+                Integer[] run = new Integer[end - start];
+                for (int i = start; i < end; i++) {
+                    run[i - start] = sorted[i];
+                }
+                Arrays.sort(run, (a, b) -> compareSuffixes(text, a + 4, b + 4));
+                for (int i = start; i < end; i++) {
+                    sorted[i] = run[i - start];
+                }
+            }
+            start = end;
+        }
+        return sorted;
+    }
+
+    private static long head(byte[] text, int position) {
+        long head = 0;
+        for (int i = 0; i < 4; i++) {
+            int b = text[position + i] & 0xff;
+            head = head << 8 | b;
+            if (b == 0) {
+                head <<= 8 * (3 - i);
+                break;
+            }
+        }
+        return head;
+    }
+
+    private static int compareSuffixes(byte[] text, int a, int b) {
+        while (true) {
+            int x = text[a++] & 0xff;
+            int y = text[b++] & 0xff;
+            if (x != y) {
+                return x - y;
+            }
+            if (x == 0) {
+                return 0;
+            }
+        }
+    }
+
+    private static final class Bytes {
+        private byte[] data = new byte[1024];
+        private int size;
+
+        void add(byte[] bytes) {
+            if (size + bytes.length > data.length) {
+                data = Arrays.copyOf(data, Math.max(size + bytes.length, data.length * 2));
+            }
+            System.arraycopy(bytes, 0, data, size, bytes.length);
+            size += bytes.length;
+        }
+
+        byte[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+    }
+
+    private static final class Ints {
+        private int[] data = new int[1024];
+        private int size;
+
+        void add(int value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.data.backend.service.product.suggest;
+
+public record SuggestRow(Long id, String name, Long popularity) {
+}
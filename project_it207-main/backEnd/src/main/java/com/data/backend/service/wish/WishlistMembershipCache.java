@@ -0,0 +1,85 @@
+package com.data.backend.service.wish;
+
+import com.data.backend.repository.WishlistRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Sorted product ids per user, loaded once and dropped after any committed wishlist write.
+// Entries live in the bounded wishlistMembership region (ehcache.xml), so reads take no global lock.
+@Component
+public class WishlistMembershipCache {
+    public static final String REGION = "wishlistMembership";
+
+    @Autowired private WishlistRepository wishlistRepository;
+    @Autowired private CacheManager jCacheManager;
+
+    private Cache<Long, Membership> memberships;
+    // Stamps every load, so a reloaded entry never repeats a version a client may still hold.
+    private final AtomicLong versions = new AtomicLong();
+    // Bumped by every committed write; a load that overlaps one is returned but not cached.
+    private final AtomicLong writes = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        memberships = jCacheManager.getCache(REGION);
+    }
+
+    public long[] productIds(Long userId) {
+        return membership(userId).productIds();
+    }
+
+    // Changes after this user's own wishlist writes (or an eviction), for anything that must notice them (e.g. ETags).
+    public long version(Long userId) {
+        return membership(userId).version();
+    }
+
+    public void invalidateAfterCommit(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(userId);
+                }
+            });
+        } else {
+            invalidate(userId);
+        }
+    }
+
+    private Membership membership(Long userId) {
+        Membership cached = memberships.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long writesBefore = writes.get();
+        List<Long> ids = wishlistRepository.findProductIdsByUserId(userId);
+        long[] sorted = new long[ids.size()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = ids.get(i);
+        }
+        Arrays.sort(sorted);
+        Membership loaded = new Membership(versions.incrementAndGet(), sorted);
+        // A write committed while we were loading may not be visible in this snapshot.
+        if (writes.get() == writesBefore) {
+            memberships.putIfAbsent(userId, loaded);
+        }
+        return loaded;
+    }
+
+    private void invalidate(Long userId) {
+        writes.incrementAndGet();
+        memberships.remove(userId);
+    }
+
+    private record Membership(long version, long[] productIds) {
+    }
+}
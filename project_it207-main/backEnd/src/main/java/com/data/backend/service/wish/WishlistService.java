@@ -1,10 +1,17 @@
 package com.data.backend.service.wish;
 
+import com.data.backend.model.dto.response.CartResponse;
+import com.data.backend.model.dto.response.ProductResponse;
 import com.data.backend.model.dto.response.WishlistResponse;
+import java.util.Collection;
 import java.util.List;
 
 public interface WishlistService {
     List<WishlistResponse> getWishlist(String username);
     void addProductToWishlist(String username, Long productId);
     void removeProductFromWishlist(String username, Long productId);
+    int addProductsToWishlist(String username, Collection<Long> productIds);
+    int removeProductsFromWishlist(String username, Collection<Long> productIds);
+    CartResponse moveProductsToCart(String username, Collection<Long> productIds);
+    void markWishlisted(Long userId, List<ProductResponse> products);
 }
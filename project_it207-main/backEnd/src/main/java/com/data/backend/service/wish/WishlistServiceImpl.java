@@ -1,17 +1,20 @@
 package com.data.backend.service.wish;
 
+import com.data.backend.model.dto.projection.WishlistItemView;
+import com.data.backend.model.dto.response.CartResponse;
 import com.data.backend.model.dto.response.ProductResponse;
 import com.data.backend.model.dto.response.WishlistResponse;
-import com.data.backend.model.entity.Product;
 import com.data.backend.model.entity.User;
-import com.data.backend.model.entity.Wishlist;
 import com.data.backend.repository.ProductRepository;
 import com.data.backend.repository.WishlistRepository;
+import com.data.backend.service.cart.CartService;
 import com.data.backend.service.user.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -21,11 +24,13 @@ public class WishlistServiceImpl implements WishlistService {
     @Autowired private WishlistRepository wishlistRepository;
     @Autowired private UserService userService;
     @Autowired private ProductRepository productRepository;
+    @Autowired private CartService cartService;
+    @Autowired private WishlistMembershipCache membershipCache;
 
     @Override
     public List<WishlistResponse> getWishlist(String username) {
         User user = userService.findUserByUsername(username);
-        return wishlistRepository.findByUserId(user.getId()).stream()
+        return wishlistRepository.findItemsByUserId(user.getId()).stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
@@ -33,40 +38,80 @@ public class WishlistServiceImpl implements WishlistService {
     @Override
     public void addProductToWishlist(String username, Long productId) {
         User user = userService.findUserByUsername(username);
-        Product product = productRepository.findById(productId).orElseThrow(() -> new EntityNotFoundException("Product not found"));
+        if (wishlistRepository.insertIgnore(user.getId(), List.of(productId)) == 0) {
+            if (!productRepository.existsById(productId)) {
+                throw new EntityNotFoundException("Product not found");
+            }
+            throw new IllegalStateException("Product is already in the wishlist.");
+        }
+        membershipCache.invalidateAfterCommit(user.getId());
+    }
 
+    @Override
+    public void removeProductFromWishlist(String username, Long productId) {
+        User user = userService.findUserByUsername(username);
+        if (wishlistRepository.deleteByUserIdAndProductIds(user.getId(), List.of(productId)) == 0) {
+            throw new EntityNotFoundException("Product not found in wishlist.");
+        }
+        membershipCache.invalidateAfterCommit(user.getId());
+    }
 
-        if (wishlistRepository.findByUserIdAndProductId(user.getId(), productId).isPresent()) {
-            throw new IllegalStateException("Product is already in the wishlist.");
+    @Override
+    public int addProductsToWishlist(String username, Collection<Long> productIds) {
+        User user = userService.findUserByUsername(username);
+        int added = wishlistRepository.insertIgnore(user.getId(), productIds);
+        if (added > 0) {
+            membershipCache.invalidateAfterCommit(user.getId());
         }
+        return added;
+    }
 
-        Wishlist wishlistItem = new Wishlist();
-        wishlistItem.setUser(user);
-        wishlistItem.setProduct(product);
-        wishlistRepository.save(wishlistItem);
+    @Override
+    public int removeProductsFromWishlist(String username, Collection<Long> productIds) {
+        User user = userService.findUserByUsername(username);
+        int removed = wishlistRepository.deleteByUserIdAndProductIds(user.getId(), productIds);
+        if (removed > 0) {
+            membershipCache.invalidateAfterCommit(user.getId());
+        }
+        return removed;
     }
 
     @Override
-    public void removeProductFromWishlist(String username, Long productId) {
+    public CartResponse moveProductsToCart(String username, Collection<Long> productIds) {
         User user = userService.findUserByUsername(username);
+        long[] wishlisted = membershipCache.productIds(user.getId());
+        List<Long> toMove = productIds.stream()
+                .distinct()
+                .filter(id -> Arrays.binarySearch(wishlisted, id) >= 0)
+                .collect(Collectors.toList());
+        if (toMove.isEmpty()) {
+            throw new EntityNotFoundException("None of the products are in the wishlist.");
+        }
+        CartResponse cart = cartService.addProductsToCart(username, toMove);
+        wishlistRepository.deleteByUserIdAndProductIds(user.getId(), toMove);
+        membershipCache.invalidateAfterCommit(user.getId());
+        return cart;
+    }
 
-        if (!wishlistRepository.findByUserIdAndProductId(user.getId(), productId).isPresent()) {
-            throw new EntityNotFoundException("Product not found in wishlist.");
+    @Override
+    @Transactional(readOnly = true)
+    public void markWishlisted(Long userId, List<ProductResponse> products) {
+        long[] wishlisted = membershipCache.productIds(userId);
+        for (ProductResponse product : products) {
+            product.setInWishlist(Arrays.binarySearch(wishlisted, product.getId()) >= 0);
         }
-        wishlistRepository.deleteByUserIdAndProductId(user.getId(), productId);
     }
 
-    private WishlistResponse mapToResponse(Wishlist wishlist) {
-        Product p = wishlist.getProduct();
+    private WishlistResponse mapToResponse(WishlistItemView item) {
         ProductResponse productResponse = ProductResponse.builder()
-                .id(p.getId())
-                .name(p.getName())
-                .price(p.getPrice())
-                .imageUrl(p.getImageUrl())
+                .id(item.getProductId())
+                .name(item.getName())
+                .price(item.getPrice())
+                .imageUrl(item.getImageUrl())
                 .build();
 
         return WishlistResponse.builder()
-                .wishlistId(wishlist.getId())
+                .wishlistId(item.getWishlistId())
                 .product(productResponse)
                 .build();
     }
@@ -0,0 +1,174 @@
+-- Baseline: the schema ddl-auto=update built from the entities before money columns became DECIMAL
+-- and addresses got the single-default key. Existing databases are baselined at this version
+-- (spring.flyway.baseline-on-migrate) and only run the migrations after it.
+
+create table addresses (
+    is_default bit,
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    address_type varchar(20),
+    label varchar(100) not null,
+    full_address varchar(500) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table cart_items (
+    quantity integer not null,
+    cart_id bigint not null,
+    id bigint not null auto_increment,
+    product_id bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table carts (
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table categories (
+    id bigint not null auto_increment,
+    name varchar(100) not null,
+    category_url varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table chat_messages (
+    id bigint not null auto_increment,
+    receiver_id bigint not null,
+    sender_id bigint not null,
+    timestamp datetime(6),
+    content TEXT,
+    primary key (id)
+) engine=InnoDB;
+
+create table comments (
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    product_id bigint,
+    user_id bigint,
+    content varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table feedbacks (
+    rating integer not null,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    user_id bigint,
+    content varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table order_items (
+    price_per_unit float(53),
+    quantity integer,
+    id bigint not null auto_increment,
+    order_id bigint not null,
+    product_id bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table order_tracking (
+    id bigint not null auto_increment,
+    order_id bigint not null,
+    timestamp datetime(6) not null,
+    location varchar(255),
+    status varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table orders (
+    total_amount float(53),
+    id bigint not null auto_increment,
+    order_date datetime(6),
+    user_id bigint,
+    primary key (id)
+) engine=InnoDB;
+
+create table products (
+    price float(53) not null,
+    quantity integer not null,
+    category_id bigint,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    description varchar(255),
+    image_url varchar(255),
+    name varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table roles (
+    id integer not null auto_increment,
+    role_name enum ('ROLE_USER','ROLE_ADMIN'),
+    primary key (id)
+) engine=InnoDB;
+
+create table user_roles (
+    role_id integer not null,
+    user_id bigint not null,
+    primary key (role_id, user_id)
+) engine=InnoDB;
+
+create table users (
+    is_active bit not null,
+    id bigint not null auto_increment,
+    email varchar(255) not null,
+    password varchar(255) not null,
+    username varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table wishlists (
+    id bigint not null auto_increment,
+    product_id bigint not null,
+    user_id bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table carts add constraint UK_64t7ox312pqal3p7fg9o503c2 unique (user_id);
+
+alter table roles add constraint UK_716hgxp60ym1lifrdgp67xt5k unique (role_name);
+
+alter table users add constraint UK_6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table users add constraint UK_r43af9ap4edm43mmtq01oddj6 unique (username);
+
+alter table wishlists add constraint UKht6e6158srxsvjciahp1kjywf unique (user_id, product_id);
+
+alter table addresses add constraint FK1fa36y2oqhao3wgg2rw1pi459 foreign key (user_id) references users (id);
+
+alter table cart_items add constraint FKpcttvuq4mxppo8sxggjtn5i2c foreign key (cart_id) references carts (id);
+
+alter table cart_items add constraint FK1re40cjegsfvw58xrkdp6bac6 foreign key (product_id) references products (id);
+
+alter table carts add constraint FKb5o626f86h46m4s7ms6ginnop foreign key (user_id) references users (id);
+
+alter table chat_messages add constraint FKand7mh9iu4kt3n1tn2w9i9of0 foreign key (receiver_id) references users (id);
+
+alter table chat_messages add constraint FKgiqeap8ays4lf684x7m0r2729 foreign key (sender_id) references users (id);
+
+alter table comments add constraint FK6uv0qku8gsu6x1r2jkrtqwjtn foreign key (product_id) references products (id);
+
+alter table comments add constraint FK8omq0tc18jd43bu5tjh6jvraq foreign key (user_id) references users (id);
+
+alter table feedbacks add constraint FK312drfl5lquu37mu4trk8jkwx foreign key (user_id) references users (id);
+
+alter table order_items add constraint FKbioxgbv59vetrxe0ejfubep1w foreign key (order_id) references orders (id);
+
+alter table order_items add constraint FKocimc7dtr037rh4ls4l95nlfi foreign key (product_id) references products (id);
+
+alter table order_tracking add constraint FKeu0lumcx8bcx6lk035xiklty0 foreign key (order_id) references orders (id);
+
+alter table orders add constraint FK32ql8ubntj5uh44ph9659tiih foreign key (user_id) references users (id);
+
+alter table products add constraint FKog2rp4qthbtt2lfyhfo32lsw9 foreign key (category_id) references categories (id);
+
+alter table user_roles add constraint FKh8ciramu9cc9q3qcqiv4ue8a6 foreign key (role_id) references roles (id);
+
+alter table user_roles add constraint FKhfh9dx7w3ubf1co1vdev94g3f foreign key (user_id) references users (id);
+
+alter table wishlists add constraint FKl7ao98u2bm8nijc1rv4jobcrx foreign key (product_id) references products (id);
+
+alter table wishlists add constraint FK330pyw2el06fn5g28ypyljt16 foreign key (user_id) references users (id);
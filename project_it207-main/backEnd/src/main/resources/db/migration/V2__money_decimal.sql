@@ -0,0 +1,4 @@
+-- Money is stored as exact DECIMAL(19,2) instead of DOUBLE; existing values round half-up to the cent.
+alter table products modify price decimal(19,2) not null;
+alter table orders modify total_amount decimal(19,2);
+alter table order_items modify price_per_unit decimal(19,2);
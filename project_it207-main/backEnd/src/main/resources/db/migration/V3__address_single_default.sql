@@ -0,0 +1,25 @@
+-- One default address per user: default_user_id is user_id for the default row and NULL otherwise,
+-- so a unique key on it enforces the rule and lets switchDefaultAddress flip it with one UPDATE.
+
+-- Keep only the lowest-id default per user before the key goes on.
+update addresses a
+    join (select user_id, min(id) as keep_id from addresses where is_default group by user_id) d on a.user_id = d.user_id
+set a.is_default = (a.id = d.keep_id)
+where a.is_default;
+
+-- Databases that ran ddl-auto=update on the newer entity may already have the column and key.
+set @ddl = if((select count(*) from information_schema.columns
+               where table_schema = database() and table_name = 'addresses' and column_name = 'default_user_id') = 0,
+              'alter table addresses add column default_user_id bigint generated always as (case when is_default then user_id end)',
+              'do 0');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
+
+set @ddl = if((select count(*) from information_schema.statistics
+               where table_schema = database() and table_name = 'addresses' and index_name = 'uk_addresses_default_user') = 0,
+              'alter table addresses add constraint uk_addresses_default_user unique (default_user_id)',
+              'do 0');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
@@ -0,0 +1,8 @@
+-- Indexes for the lookups the services run. Each one also serves its table's foreign key, so InnoDB
+-- drops the implicit single-column FK index it had created.
+-- carts(user_id) and users(email) are already covered by their unique keys from V1.
+create index idx_orders_user_date on orders (user_id, order_date);
+create index idx_order_tracking_order_time on order_tracking (order_id, timestamp);
+create index idx_comments_product_created on comments (product_id, created_at);
+create index idx_addresses_user_default on addresses (user_id, is_default);
+create index idx_products_category on products (category_id);
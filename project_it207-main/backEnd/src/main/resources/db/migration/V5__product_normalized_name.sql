@@ -0,0 +1,3 @@
+-- Accent-folded copy of products.name that search matches against (see TextNormalizer). MySQL collations do not
+-- fold đ, so the application fills it: new rows on write, existing rows by ProductNameBackfill at startup.
+alter table products add column normalized_name varchar(255);
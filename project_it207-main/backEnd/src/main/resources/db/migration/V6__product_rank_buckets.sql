@@ -0,0 +1,9 @@
+-- Snapshots of the in-memory ranking counters (see ProductRankingService): one row per series, time bucket and
+-- product. No foreign key, so deleting a product never waits on its counters; stale rows age out with the window.
+create table product_rank_buckets (
+    series varchar(32) not null,
+    bucket_start bigint not null,
+    product_id bigint not null,
+    total bigint not null,
+    primary key (series, bucket_start, product_id)
+) engine=InnoDB;
@@ -0,0 +1,19 @@
+-- Daily sales per dimension, kept current by every order write (see SalesRollupService) so the admin dashboard never
+-- aggregates orders. TOTAL rows are striped: key_id is order id mod sales_rollup_total_stripes, and readers sum the
+-- stripes, so concurrent orders do not queue on one row lock. Products without a category roll up under key_id 0.
+create table sales_rollups (
+    dimension enum ('TOTAL','CATEGORY','PRODUCT') not null,
+    sales_date date not null,
+    key_id bigint not null,
+    order_count integer not null,
+    units bigint not null,
+    revenue decimal(19,2) not null,
+    cancelled_orders integer not null,
+    cancelled_units bigint not null,
+    cancelled_revenue decimal(19,2) not null,
+    primary key (dimension, sales_date, key_id)
+) engine=InnoDB;
+create index idx_sales_rollups_key_date on sales_rollups (dimension, key_id, sales_date);
+
+-- The rollup backfill reads orders one day at a time.
+create index idx_orders_date on orders (order_date);
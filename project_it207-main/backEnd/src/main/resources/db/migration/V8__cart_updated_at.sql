@@ -0,0 +1,5 @@
+-- Last change to a cart or its items; CartExpiryService deletes carts left untouched for cart_expiry_days. Existing
+-- carts have no history, so they start their expiry clock at this migration.
+alter table carts add column updated_at datetime(6);
+update carts set updated_at = current_timestamp(6);
+alter table carts modify updated_at datetime(6) not null;
@@ -0,0 +1,74 @@
+package com.data.backend.config;
+
+import com.data.backend.model.dto.request.CategoryRequest;
+import com.data.backend.service.category.CategoryService;
+import com.data.backend.support.CatalogFixture;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Primary and two replicas are separate in-memory H2 databases; a third replica URL points at nothing.
+// Each database holds the same category row with a different categoryUrl, so reads show where they went.
+@SpringBootTest(properties = "datasource_replica_urls=" + ReadReplicaRoutingTests.REPLICA_A + "," +
+        ReadReplicaRoutingTests.DEAD_REPLICA + "," + ReadReplicaRoutingTests.REPLICA_B)
+@ActiveProfiles("test")
+class ReadReplicaRoutingTests {
+    static final String REPLICA_A = "jdbc:h2:mem:replica_a;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_B = "jdbc:h2:mem:replica_b;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String DEAD_REPLICA = "jdbc:h2:tcp://127.0.0.1:1/dead";
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void seed() {
+        new CatalogFixture(jdbc).reset().category(1, "Phones", "primary");
+        seedReplica(REPLICA_A, "replica-a");
+        seedReplica(REPLICA_B, "replica-b");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void readOnlyTransactionsRoundRobinOverHealthyReplicas() {
+        Set<String> sources = new HashSet<>();
+        for (int i = 0; i < 6; i++) {
+            sources.add(categoryService.findByName("Phones").getCategoryUrl());
+            entityManagerFactory.getCache().evictAll();
+        }
+        assertEquals(Set.of("replica-a", "replica-b"), sources);
+    }
+
+    @Test
+    void writesGoToPrimary() {
+        CategoryRequest request = new CategoryRequest();
+        request.setName("Laptops");
+        request.setCategoryUrl("laptops");
+        categoryService.create(request);
+
+        assertEquals(1, jdbc.queryForObject("SELECT COUNT(*) FROM categories WHERE name = 'Laptops'", Integer.class));
+    }
+
+    private static void seedReplica(String url, String categoryUrl) {
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+        replica.execute("CREATE TABLE IF NOT EXISTS categories (id BIGINT PRIMARY KEY, name VARCHAR(100) NOT NULL, category_url VARCHAR(255))");
+        replica.execute("CREATE TABLE IF NOT EXISTS products (id BIGINT PRIMARY KEY, category_id BIGINT)");
+        replica.update("DELETE FROM categories");
+        replica.update("INSERT INTO categories (id, name, category_url) VALUES (1, 'Phones', ?)", categoryUrl);
+    }
+}
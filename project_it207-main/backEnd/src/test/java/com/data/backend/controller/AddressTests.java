@@ -0,0 +1,99 @@
+package com.data.backend.controller;
+
+import com.data.backend.config.CacheConfig;
+import com.data.backend.support.CatalogFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "addresses")
+class AddressTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private CatalogFixture fixture;
+
+    @BeforeEach
+    void seed() {
+        fixture = new CatalogFixture(jdbc).reset()
+                .user(910, "addresses")
+                .user(911, "neighbour")
+                .address(1, 910, true)
+                .address(2, 910, false)
+                .address(3, 910, false)
+                .address(4, 911, true);
+        cacheManager.getCache(CacheConfig.USER_ADDRESSES).clear();
+    }
+
+    @Test
+    void switchingTheDefaultMovesItAndRefreshesTheCachedList() throws Exception {
+        mockMvc.perform(get("/api/v1/addresses"))
+                .andExpect(jsonPath("$.data[*].isDefault", contains(true, false, false)));
+
+        mockMvc.perform(put("/api/v1/addresses/3/set-default"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.isDefault").value(true));
+        mockMvc.perform(get("/api/v1/addresses"))
+                .andExpect(jsonPath("$.data[*].isDefault", contains(false, false, true)));
+
+        mockMvc.perform(post("/api/v1/addresses")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"label\":\"Office\",\"fullAddress\":\"y\",\"isDefault\":true}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.isDefault").value(true));
+        mockMvc.perform(get("/api/v1/addresses"))
+                .andExpect(jsonPath("$.data[*].isDefault", contains(false, false, false, true)));
+
+        // Another user's default is untouched
+        assertThat(jdbc.queryForObject("SELECT is_default FROM addresses WHERE id = 4", Boolean.class)).isTrue();
+    }
+
+    @Test
+    void switchingToAnotherUsersAddressIsRejected() throws Exception {
+        mockMvc.perform(put("/api/v1/addresses/4/set-default")).andExpect(status().isBadRequest());
+
+        assertThat(jdbc.queryForList("SELECT id FROM addresses WHERE is_default ORDER BY id", Long.class)).containsExactly(1L, 4L);
+    }
+
+    @Test
+    void uniqueKeyAllowsOneDefaultPerUser() {
+        assertThatThrownBy(() -> fixture.address(5, 910, true)).isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> jdbc.update("UPDATE addresses SET is_default = TRUE WHERE id = 2"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        fixture.address(5, 910, false).address(6, 911, false);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM addresses WHERE is_default", Long.class)).isEqualTo(2);
+    }
+
+    @Test
+    void addressListsUseTheEhcacheRegion() {
+        assertThat(cacheManager.getCache(CacheConfig.USER_ADDRESSES).getNativeCache()).isInstanceOf(javax.cache.Cache.class);
+    }
+}
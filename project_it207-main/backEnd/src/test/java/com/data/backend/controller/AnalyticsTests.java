@@ -0,0 +1,144 @@
+package com.data.backend.controller;
+
+import com.data.backend.model.money.Money;
+import com.data.backend.service.analytics.SalesRollupBackfill;
+import com.data.backend.service.order.OrderCancelledEvent;
+import com.data.backend.service.order.OrderLine;
+import com.data.backend.service.order.OrderPlacedEvent;
+import com.data.backend.support.CatalogFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class AnalyticsTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private SalesRollupBackfill salesRollupBackfill;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogFixture fixture;
+
+    @BeforeEach
+    void seed() {
+        fixture = new CatalogFixture(jdbc).reset()
+                .category(1, "Phones", "phones")
+                .category(2, "Cases", "cases")
+                .product(1, "Product 1", 100, 10, 1L)
+                .product(2, "Product 2", 50, 10, 1L)
+                .product(3, "Product 3", 20, 10, 2L)
+                .product(4, "Product 4", 10, 10, null)
+                .user(904, "analytics");
+        order(1, "2026-03-01 10:00:00", new long[]{1, 3}, new int[]{2, 1});
+        order(2, "2026-03-01 15:00:00", new long[]{2, 1}, new int[]{1, 1});
+        order(3, "2026-03-02 09:00:00", new long[]{4}, new int[]{3});
+        fixture.cancel(2);
+        salesRollupBackfill.rebuild(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 2));
+    }
+
+    @Test
+    void dailyTotalsCountCancellationsOnTheOrderDay() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/analytics/sales").param("from", "2026-03-01").param("to", "2026-03-03"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].date", contains("2026-03-01", "2026-03-02")))
+                .andExpect(jsonPath("$.data[0].orders").value(2))
+                .andExpect(jsonPath("$.data[0].units").value(5))
+                .andExpect(jsonPath("$.data[0].revenue").value(370.0))
+                .andExpect(jsonPath("$.data[0].cancelledOrders").value(1))
+                .andExpect(jsonPath("$.data[0].cancelledUnits").value(2))
+                .andExpect(jsonPath("$.data[0].cancelledRevenue").value(150.0))
+                .andExpect(jsonPath("$.data[0].netRevenue").value(220.0))
+                .andExpect(jsonPath("$.data[1].revenue").value(30.0));
+    }
+
+    @Test
+    void breaksDownByCategoryAndProduct() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/analytics/sales/categories").param("from", "2026-03-01").param("to", "2026-03-02"))
+                .andExpect(jsonPath("$.data[*].id", contains(1, 0, 2)))
+                .andExpect(jsonPath("$.data[0].name").value("Phones"))
+                .andExpect(jsonPath("$.data[0].orders").value(2))
+                .andExpect(jsonPath("$.data[0].revenue").value(350.0))
+                .andExpect(jsonPath("$.data[0].netRevenue").value(200.0));
+
+        mockMvc.perform(get("/api/v1/admin/analytics/sales/products").param("from", "2026-03-01").param("to", "2026-03-02").param("limit", "2"))
+                .andExpect(jsonPath("$.data[*].id", contains(1, 2)))
+                .andExpect(jsonPath("$.data[0].units").value(3))
+                .andExpect(jsonPath("$.data[0].revenue").value(300.0));
+
+        mockMvc.perform(get("/api/v1/admin/analytics/sales/products/4").param("from", "2026-03-01").param("to", "2026-03-02"))
+                .andExpect(jsonPath("$.data[*].date", contains("2026-03-02")))
+                .andExpect(jsonPath("$.data[0].units").value(3));
+    }
+
+    @Test
+    void orderEventsMatchWhatABackfillComputes() throws Exception {
+        LocalDateTime placed = LocalDateTime.of(2026, 3, 2, 12, 0);
+        order(5, "2026-03-02 12:00:00", new long[]{3, 1}, new int[]{2, 1});
+        eventPublisher.publishEvent(new OrderPlacedEvent(5L, placed, List.of(
+                new OrderLine(3L, 2L, 2, Money.of(20)), new OrderLine(1L, 1L, 1, Money.of(100)))));
+        fixture.cancel(3);
+        eventPublisher.publishEvent(new OrderCancelledEvent(3L, LocalDateTime.of(2026, 3, 2, 9, 0), List.of(
+                new OrderLine(4L, null, 3, Money.of(10)))));
+        List<Map<String, Object>> incremental = rollups();
+
+        mockMvc.perform(post("/api/v1/admin/analytics/sales/rebuild").param("from", "2026-03-01").param("to", "2026-03-02"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(2));
+        assertThat(rollups()).isEqualTo(incremental);
+
+        mockMvc.perform(get("/api/v1/admin/analytics/sales").param("from", "2026-03-02").param("to", "2026-03-02"))
+                .andExpect(jsonPath("$.data[0].orders").value(2))
+                .andExpect(jsonPath("$.data[0].revenue").value(170.0))
+                .andExpect(jsonPath("$.data[0].cancelledOrders").value(1))
+                .andExpect(jsonPath("$.data[0].netRevenue").value(140.0));
+    }
+
+    @Test
+    void rejectsInvertedOrOversizedRanges() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/analytics/sales").param("from", "2026-03-02").param("to", "2026-03-01"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/admin/analytics/sales").param("from", "2020-01-01").param("to", "2026-03-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<Map<String, Object>> rollups() {
+        return jdbc.queryForList("SELECT dimension, sales_date, key_id, order_count, units, revenue, cancelled_orders, cancelled_units, " +
+                "cancelled_revenue FROM sales_rollups ORDER BY dimension, sales_date, key_id");
+    }
+
+    private void order(long orderId, String date, long[] productIds, int[] quantities) {
+        fixture.order(orderId, 904, date);
+        for (int i = 0; i < productIds.length; i++) {
+            fixture.item(orderId, productIds[i], quantities[i]);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.data.backend.controller;
+
+import com.data.backend.service.cart.CartExpiryService;
+import com.data.backend.support.CatalogFixture;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "cart_expiry_chunk_size=2",
+        "cart_expiry_chunk_pause=0"
+})
+@WithMockUser(username = "cartexpiry")
+class CartExpiryTests {
+    private static final String OLD = "2026-01-01 00:00:00";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private CartExpiryService cartExpiryService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private CatalogFixture fixture;
+
+    @BeforeEach
+    void seed() {
+        fixture = new CatalogFixture(jdbc).reset()
+                .product(1, "Phone", 100, 10, null)
+                .product(2, "Case", 10, 10, null);
+        for (long id = 905; id <= 908; id++) {
+            fixture.user(id, id == 905 ? "cartexpiry" : "cartexpiry" + id);
+        }
+    }
+
+    @Test
+    void expiresOnlyCartsLeftUntouched() throws Exception {
+        addToCart(1, 2);
+        abandonedCart(906, 1, 2);
+        abandonedCart(907);
+        abandonedCart(908, 2);
+        double carts = counter("carts.expired");
+        double items = counter("carts.expired.items");
+
+        assertThat(cartExpiryService.expire(LocalDateTime.now().minusDays(1))).isEqualTo(3);
+
+        assertThat(jdbc.queryForList("SELECT user_id FROM carts", Long.class)).containsExactly(905L);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM cart_items", Long.class)).isEqualTo(1);
+        assertThat(counter("carts.expired") - carts).isEqualTo(3);
+        assertThat(counter("carts.expired.items") - items).isEqualTo(3);
+        assertThat(meterRegistry.find("carts.expiry.run").timer().count()).isPositive();
+    }
+
+    @Test
+    void changingItemsRestartsTheExpiryClock() throws Exception {
+        addToCart(1, 2);
+        jdbc.update("UPDATE carts SET updated_at = ?", OLD);
+        mockMvc.perform(put("/api/v1/cart/products/1").param("quantity", "5")).andExpect(status().isOk());
+
+        assertThat(cartExpiryService.expire(LocalDateTime.now().minusDays(1))).isZero();
+
+        jdbc.update("UPDATE carts SET updated_at = ?", OLD);
+        assertThat(cartExpiryService.expire(LocalDateTime.now().minusDays(1))).isEqualTo(1);
+        mockMvc.perform(get("/api/v1/cart"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items", hasSize(0)));
+    }
+
+    private void addToCart(long productId, int quantity) throws Exception {
+        mockMvc.perform(post("/api/v1/cart")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productId\":" + productId + ",\"quantity\":" + quantity + "}"))
+                .andExpect(status().isOk());
+    }
+
+    private void abandonedCart(long userId, long... productIds) {
+        fixture.cart(userId, userId, OLD);
+        for (long productId : productIds) {
+            fixture.cartItem(userId, productId, 1);
+        }
+    }
+
+    private double counter(String name) {
+        return meterRegistry.find(name).counter().count();
+    }
+}
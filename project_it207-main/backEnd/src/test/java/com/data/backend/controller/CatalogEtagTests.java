@@ -0,0 +1,111 @@
+package com.data.backend.controller;
+
+import com.data.backend.service.catalog.CatalogChangedEvent;
+import com.data.backend.service.catalog.CatalogVersions;
+import com.data.backend.support.CatalogFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CatalogEtagTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @BeforeEach
+    void seed() {
+        new CatalogFixture(jdbc).reset()
+                .category(1, "Phones", "phones")
+                .product(1, "Phone A", 100, 5, 1L)
+                .user(913, "etag-a")
+                .user(914, "etag-b");
+    }
+
+    @Test
+    void productListingRevalidatesUntilProductsChange() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/products"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/products").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogVersions.Collection.PRODUCTS));
+
+        mockMvc.perform(get("/api/v1/products").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void productDetailsRevalidate() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/products/1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/products/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void commentsRevalidateUntilCommentsChange() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/comments/product/1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/comments/product/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogVersions.Collection.COMMENTS));
+
+        mockMvc.perform(get("/api/v1/comments/product/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void signedInListingsRevalidateUntilTheirOwnWishlistChanges() throws Exception {
+        String etagA = mockMvc.perform(get("/api/v1/products").with(as("etag-a")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(post("/api/v1/wishlist/product/1").with(as("etag-b"))).andExpect(status().isCreated());
+        mockMvc.perform(get("/api/v1/products").with(as("etag-a")).header(HttpHeaders.IF_NONE_MATCH, etagA))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/api/v1/wishlist/product/1").with(as("etag-a"))).andExpect(status().isCreated());
+        mockMvc.perform(get("/api/v1/products").with(as("etag-a")).header(HttpHeaders.IF_NONE_MATCH, etagA))
+                .andExpect(status().isOk());
+    }
+
+    private RequestPostProcessor as(String username) {
+        return user(userDetailsService.loadUserByUsername(username));
+    }
+}
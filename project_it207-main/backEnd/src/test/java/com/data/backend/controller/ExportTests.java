@@ -0,0 +1,95 @@
+package com.data.backend.controller;
+
+import com.data.backend.support.CatalogFixture;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class ExportTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void seed() {
+        new CatalogFixture(jdbc).reset()
+                .category(1, "Phones", "phones")
+                .product(1, "Phone A", "Pin 5000mAh, \"chính hãng\"", new BigDecimal("199.99"), 5, 1L, "a.png", "2026-01-02 03:04:05")
+                .product(2, "Phone B", null, new BigDecimal("10.00"), 0, null, null, "2026-01-02 03:04:05")
+                .user(900, "buyer")
+                .order(1, 900, "2026-02-01 10:00:00")
+                .item(1, 1, 2)
+                .item(1, 2, 1);
+    }
+
+    @Test
+    void productsAsGzippedCsv() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/api/v1/export/products"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+
+        assertThat(response.getContentType()).isEqualTo("application/gzip");
+        assertThat(response.getHeader("Content-Disposition")).matches("attachment; filename=\"products-\\d{8}-\\d{6}\\.csv\\.gz\"");
+        assertThat(gunzip(response).split("\n")).containsExactly(
+                "id,name,description,price,quantity,category_id,category,image_url,created_at,updated_at",
+                "1,Phone A,\"Pin 5000mAh, \"\"chính hãng\"\"\",199.99,5,1,Phones,a.png,2026-01-02T03:04:05,2026-01-02T03:04:05",
+                "2,Phone B,,10.00,0,,,,2026-01-02T03:04:05,2026-01-02T03:04:05");
+    }
+
+    @Test
+    void ordersAsGzippedJsonLines() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/api/v1/export/orders").param("format", "jsonl"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+
+        List<String> lines = gunzip(response).lines().toList();
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("orderId").asLong()).isEqualTo(1);
+        assertThat(first.get("username").asText()).isEqualTo("buyer");
+        assertThat(first.get("totalAmount").decimalValue()).isEqualByComparingTo("409.98");
+        assertThat(first.get("productName").asText()).isEqualTo("Phone A");
+        assertThat(objectMapper.readTree(lines.get(1)).get("productId").asLong()).isEqualTo(2);
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void requiresAdmin() throws Exception {
+        mockMvc.perform(get("/api/v1/export/products")).andExpect(status().is4xxClientError());
+    }
+
+    private static String gunzip(MockHttpServletResponse response) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
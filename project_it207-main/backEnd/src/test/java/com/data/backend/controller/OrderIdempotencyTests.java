@@ -0,0 +1,143 @@
+package com.data.backend.controller;
+
+import com.data.backend.service.order.OrderService;
+import com.data.backend.support.CatalogFixture;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "idempotency_wait=1000")
+class OrderIdempotencyTests {
+    private static final String BUYER = "idempotent";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @SpyBean
+    private OrderService orderService;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private CatalogFixture fixture;
+
+    @BeforeEach
+    void seed() {
+        fixture = new CatalogFixture(jdbc).reset()
+                .product(1, "Phone", 100, 10, null)
+                .user(909, BUYER)
+                .cart(909, 909, "2026-01-01 00:00:00")
+                .cartItem(909, 1, 2);
+    }
+
+    @AfterEach
+    void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void retriesReplayTheFirstOrder() throws Exception {
+        MockHttpServletResponse first = createOrder("replay");
+        MockHttpServletResponse retry = createOrder("replay");
+
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(orderId(retry)).isEqualTo(orderId(first));
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM orders", Long.class)).isEqualTo(1);
+        assertThat(jdbc.queryForObject("SELECT quantity FROM products WHERE id = 1", Integer.class)).isEqualTo(8);
+    }
+
+    @Test
+    void concurrentRetryWaitsForTheFirstRequest() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        holdOrders(entered, release);
+
+        Future<MockHttpServletResponse> first = executor.submit(() -> createOrder("concurrent"));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<MockHttpServletResponse> retry = executor.submit(() -> createOrder("concurrent"));
+        Thread.sleep(200);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(201);
+        assertThat(retry.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(201);
+        assertThat(orderId(retry.get())).isEqualTo(orderId(first.get()));
+        verify(orderService, times(1)).createOrderFromCart(BUYER);
+    }
+
+    @Test
+    void retryStillWaitingAfterTheTimeoutIsAConflict() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        holdOrders(entered, release);
+
+        Future<MockHttpServletResponse> first = executor.submit(() -> createOrder("slow"));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        MockHttpServletResponse retry = createOrder("slow");
+        release.countDown();
+
+        assertThat(retry.getStatus()).isEqualTo(409);
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(201);
+    }
+
+    @Test
+    void failedFirstAttemptsAreNotReplayed() throws Exception {
+        jdbc.update("DELETE FROM cart_items");
+        assertThat(createOrder("failed").getStatus()).isEqualTo(400);
+
+        fixture.cartItem(909, 1, 1);
+        doThrow(new StackOverflowError()).doCallRealMethod().when(orderService).createOrderFromCart(BUYER);
+        assertThatThrownBy(() -> createOrder("failed")).hasRootCauseInstanceOf(StackOverflowError.class);
+
+        assertThat(createOrder("failed").getStatus()).isEqualTo(201);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM orders", Long.class)).isEqualTo(1);
+    }
+
+    private void holdOrders(CountDownLatch entered, CountDownLatch release) {
+        doAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(orderService).createOrderFromCart(anyString());
+    }
+
+    private MockHttpServletResponse createOrder(String key) throws Exception {
+        return mockMvc.perform(post("/api/v1/orders").header("Idempotency-Key", key).with(user(BUYER)))
+                .andReturn().getResponse();
+    }
+
+    private static long orderId(MockHttpServletResponse response) throws Exception {
+        return ((Number) JsonPath.read(response.getContentAsString(), "$.data.id")).longValue();
+    }
+}
@@ -0,0 +1,107 @@
+package com.data.backend.controller;
+
+import com.data.backend.service.catalog.ProductChangedEvent;
+import com.data.backend.service.product.ProductNameBackfill;
+import com.data.backend.service.product.facet.ProductFacetService;
+import com.data.backend.support.CatalogFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProductFacetTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private ProductFacetService productFacetService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ProductNameBackfill productNameBackfill;
+
+    @BeforeEach
+    void seed() {
+        new CatalogFixture(jdbc).reset()
+                .category(1, "Phones", "phones")
+                .category(2, "Laptops", "laptops")
+                .product(1, "Phone A", 150_000, 5, 1L)
+                .product(2, "Phone B", 450_000, 0, 1L)
+                .product(3, "Laptop C", 12_000_000, 2, 2L)
+                .product(4, "Laptop D", 25_000_000, 1, 2L)
+                .product(5, "Cable", 50_000, 10, null);
+        productNameBackfill.backfill();
+        productFacetService.rebuild();
+    }
+
+    @Test
+    void filtersByCategoryAndStock() throws Exception {
+        mockMvc.perform(get("/api/v1/products").param("categoryId", "1").param("inStock", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(1))
+                .andExpect(jsonPath("$.data.content[*].id", contains(1)));
+
+        mockMvc.perform(get("/api/v1/products").param("categoryId", "1", "2").param("search", "phone"))
+                .andExpect(jsonPath("$.data.content[*].id", contains(1, 2)));
+    }
+
+    @Test
+    void filtersByPriceRangeSortedByPrice() throws Exception {
+        mockMvc.perform(get("/api/v1/products")
+                        .param("minPrice", "150000").param("maxPrice", "12000000")
+                        .param("sort", "price,desc").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(3))
+                .andExpect(jsonPath("$.data.totalPages").value(2))
+                .andExpect(jsonPath("$.data.content[*].id", contains(3, 2)));
+
+        mockMvc.perform(get("/api/v1/products").param("inStock", "true").param("sort", "name"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void facetCountsIgnoreTheirOwnConstraint() throws Exception {
+        mockMvc.perform(get("/api/v1/products/facets").param("categoryId", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.total").value(2))
+                .andExpect(jsonPath("$.data.inStock").value(2))
+                .andExpect(jsonPath("$.data.categories[*].id", contains(1, 2)))
+                .andExpect(jsonPath("$.data.categories[*].count", contains(2, 2)))
+                .andExpect(jsonPath("$.data.categories[0].name").value("Phones"))
+                .andExpect(jsonPath("$.data.prices[7].min").value(10_000_000))
+                .andExpect(jsonPath("$.data.prices[7].count").value(1))
+                .andExpect(jsonPath("$.data.prices[8].max").doesNotExist())
+                .andExpect(jsonPath("$.data.prices[8].count").value(1));
+    }
+
+    @Test
+    void stockChangesAreAppliedIncrementally() throws Exception {
+        jdbc.update("UPDATE products SET quantity = 0 WHERE id = 1");
+        jdbc.update("DELETE FROM products WHERE id = 5");
+        eventPublisher.publishEvent(ProductChangedEvent.of(List.of(1L, 5L)));
+
+        mockMvc.perform(get("/api/v1/products/facets").param("inStock", "true"))
+                .andExpect(jsonPath("$.data.total").value(2))
+                .andExpect(jsonPath("$.data.categories[*].count", contains(2, 0)));
+    }
+}
@@ -0,0 +1,108 @@
+package com.data.backend.controller;
+
+import com.data.backend.support.CatalogFixture;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "ADMIN")
+class ProductImportTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void seed() {
+        new CatalogFixture(jdbc).reset()
+                .category(1, "Điện thoại", "dien-thoai")
+                .category(2, "Laptop", "laptop");
+    }
+
+    @Test
+    void importsCsvAndReportsBadRows() throws Exception {
+        String csv = """
+                name,description,price,quantity,category,image_url
+                Phone A,"Bảo hành 12 tháng, chính hãng",199.99,5,Điện thoại,a.png
+                "Laptop \"\"Pro\"\"","two
+                lines",1500,2,laptop,
+                Tablet,,abc,1,laptop,
+                Watch,,10,1,Đồng hồ,
+                ,,10,1,laptop,
+                """;
+        JsonNode job = runImport(new MockMultipartFile("file", "catalog.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(job.get("status").asText()).isEqualTo("COMPLETED");
+        assertThat(job.get("rowsRead").asLong()).isEqualTo(5);
+        assertThat(job.get("rowsImported").asLong()).isEqualTo(2);
+        assertThat(job.get("rowsFailed").asLong()).isEqualTo(3);
+        assertThat(job.get("errors").findValuesAsText("line")).containsExactlyInAnyOrder("5", "6", "7");
+        assertThat(job.get("errors").get(1).get("message").asText()).contains("Đồng hồ");
+
+        assertThat(jdbc.queryForObject("SELECT description FROM products WHERE name = 'Laptop \"Pro\"'", String.class)).isEqualTo("two\nlines");
+        assertThat(jdbc.queryForObject("SELECT price FROM products WHERE name = 'Phone A'", String.class)).startsWith("199.99");
+    }
+
+    @Test
+    void importsJsonLines() throws Exception {
+        String jsonl = """
+                {"name":"Phone B","price":99.5,"quantity":3,"category":"dien-thoai","image_url":"b.png"}
+
+                {"name":"Broken",
+                {"name":"Laptop C","price":-1,"quantity":3,"category":"Laptop"}
+                """;
+        JsonNode job = runImport(new MockMultipartFile("file", "catalog.jsonl", "application/x-ndjson", jsonl.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(job.get("rowsImported").asLong()).isEqualTo(1);
+        assertThat(job.get("rowsFailed").asLong()).isEqualTo(2);
+        assertThat(job.get("errors").findValuesAsText("line")).containsExactly("3", "4");
+        assertThat(job.get("errors").get(1).get("message").asText()).startsWith("price");
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM products WHERE category_id = 1", Long.class)).isEqualTo(1);
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void requiresAdmin() throws Exception {
+        mockMvc.perform(get("/api/v1/products/import/unknown")).andExpect(status().isForbidden());
+    }
+
+    private JsonNode runImport(MockMultipartFile file) throws Exception {
+        String body = mockMvc.perform(multipart("/api/v1/products/import").file(file))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        String jobId = objectMapper.readTree(body).at("/data/id").asText();
+        for (int attempt = 0; attempt < 100; attempt++) {
+            JsonNode job = objectMapper.readTree(mockMvc.perform(get("/api/v1/products/import/" + jobId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8)).get("data");
+            if (!"QUEUED".equals(job.get("status").asText()) && !"RUNNING".equals(job.get("status").asText())) {
+                return job;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Import " + jobId + " did not finish");
+    }
+}
@@ -0,0 +1,136 @@
+package com.data.backend.controller;
+
+import com.data.backend.model.money.Money;
+import com.data.backend.service.order.OrderCancelledEvent;
+import com.data.backend.service.order.OrderLine;
+import com.data.backend.service.order.OrderPlacedEvent;
+import com.data.backend.service.product.facet.ProductFacetService;
+import com.data.backend.service.product.ranking.ProductRankingService;
+import com.data.backend.support.CatalogFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProductRankingTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private ProductRankingService productRankingService;
+
+    @Autowired
+    private ProductFacetService productFacetService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogFixture fixture;
+
+    @BeforeEach
+    void seed() {
+        fixture = new CatalogFixture(jdbc).reset()
+                .category(1, "Phones", "phones")
+                .category(2, "Laptops", "laptops");
+        for (long id = 1; id <= 5; id++) {
+            fixture.product(id, "Product " + id, 100, 10, id <= 3 ? 1L : 2L);
+        }
+        fixture.user(903, "ranking");
+        order(1, new long[]{1, 2}, new int[]{2, 5});
+        order(2, new long[]{3, 1}, new int[]{1, 1});
+        order(3, new long[]{4}, new int[]{4});
+        order(4, new long[]{3}, new int[]{10});
+        fixture.cancel(4);
+        productFacetService.rebuild();
+        productRankingService.reload();
+    }
+
+    @Test
+    void bestsellingSortsByUnitsAndPadsWithUnsoldProducts() throws Exception {
+        mockMvc.perform(get("/api/v1/products").param("sort", "bestselling").param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[*].id", contains(2, 4, 1)))
+                .andExpect(jsonPath("$.data.totalElements").value(5));
+        mockMvc.perform(get("/api/v1/products").param("sort", "bestselling").param("size", "3").param("page", "1"))
+                .andExpect(jsonPath("$.data.content[*].id", contains(3, 5)));
+        mockMvc.perform(get("/api/v1/products").param("sort", "bestselling").param("categoryId", "1"))
+                .andExpect(jsonPath("$.data.content[*].id", contains(2, 1, 3)));
+
+        mockMvc.perform(get("/api/v1/products/top").param("by", "bestselling"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].id", contains(2, 4, 1, 3)));
+        mockMvc.perform(get("/api/v1/products/top").param("by", "cheapest"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void trendingCountsViewsAndRecentSales() throws Exception {
+        for (int i = 0; i < 30; i++) {
+            mockMvc.perform(get("/api/v1/products/5")).andExpect(status().isOk());
+        }
+        productRankingService.refresh();
+
+        mockMvc.perform(get("/api/v1/products").param("sort", "trending"))
+                .andExpect(jsonPath("$.data.content[*].id", contains(5, 2, 4, 1, 3)));
+        mockMvc.perform(get("/api/v1/products/top").param("by", "trending").param("limit", "2"))
+                .andExpect(jsonPath("$.data[*].id", contains(5, 2)));
+    }
+
+    @Test
+    void ordersMoveRankingsAfterRefresh() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/products").param("sort", "bestselling"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        eventPublisher.publishEvent(new OrderCancelledEvent(1L, LocalDateTime.now(), List.of(new OrderLine(2L, 1L, 5, Money.of(100)))));
+        eventPublisher.publishEvent(new OrderPlacedEvent(5L, LocalDateTime.now(), List.of(new OrderLine(5L, 2L, 9, Money.of(100)))));
+        productRankingService.refresh();
+
+        mockMvc.perform(get("/api/v1/products").param("sort", "bestselling").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[*].id", contains(5, 4, 1, 3, 2)));
+    }
+
+    @Test
+    void snapshotsSurviveReload() throws Exception {
+        for (int i = 0; i < 30; i++) {
+            mockMvc.perform(get("/api/v1/products/5"));
+        }
+        productRankingService.snapshot();
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM product_rank_buckets WHERE series = 'activity' AND product_id = 5", Long.class))
+                .isEqualTo(1L);
+
+        productRankingService.reload();
+        mockMvc.perform(get("/api/v1/products/top").param("by", "trending").param("limit", "1"))
+                .andExpect(jsonPath("$.data[*].id", contains(5)));
+        mockMvc.perform(get("/api/v1/products/top").param("by", "bestselling").param("limit", "1"))
+                .andExpect(jsonPath("$.data[*].id", contains(2)));
+    }
+
+    private void order(long orderId, long[] productIds, int[] quantities) {
+        fixture.order(orderId, 903);
+        for (int i = 0; i < productIds.length; i++) {
+            fixture.item(orderId, productIds[i], quantities[i]);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.data.backend.controller;
+
+import com.data.backend.model.entity.Product;
+import com.data.backend.model.money.Money;
+import com.data.backend.model.text.TextNormalizer;
+import com.data.backend.repository.ProductRepository;
+import com.data.backend.service.product.ProductNameBackfill;
+import com.data.backend.support.CatalogFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.text.Normalizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProductSearchTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductNameBackfill productNameBackfill;
+
+    @BeforeEach
+    void seed() {
+        new CatalogFixture(jdbc).reset()
+                .product(9001, "Áo thun nam cổ tròn", 100, 1, null)
+                .product(9002, "Điện thoại Samsung Galaxy", 100, 1, null)
+                .product(9003, "Ao khoac gio", 100, 1, null)
+                // Decomposed (NFD) input, as some keyboards and copy-pastes produce.
+                .product(9004, Normalizer.normalize("Đồng hồ thông minh", Normalizer.Form.NFD), 100, 1, null);
+    }
+
+    @Test
+    void normalizesVietnameseText() {
+        assertThat(TextNormalizer.normalize("  Áo thun  NAM - Đỏ (2024) ")).isEqualTo("ao thun nam do 2024");
+        assertThat(TextNormalizer.normalize(Normalizer.normalize("Nồi cơm điện 1.8L", Normalizer.Form.NFD))).isEqualTo("noi com dien 1 8l");
+        assertThat(TextNormalizer.normalize("100%_off")).isEqualTo("100 off");
+        String normalized = "dien thoai";
+        assertThat(TextNormalizer.normalize(normalized)).isSameAs(normalized);
+    }
+
+    @Test
+    void searchIgnoresAccentsAndCase() throws Exception {
+        assertThat(productNameBackfill.backfill()).isEqualTo(4);
+        assertThat(productNameBackfill.backfill()).isZero();
+
+        mockMvc.perform(get("/api/v1/products").param("search", "ao thun"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[*].id", containsInAnyOrder(9001)));
+        mockMvc.perform(get("/api/v1/products").param("search", "ÁO"))
+                .andExpect(jsonPath("$.data.content[*].id", containsInAnyOrder(9001, 9003)));
+        mockMvc.perform(get("/api/v1/products").param("search", "DIEN THOAI"))
+                .andExpect(jsonPath("$.data.content[*].id", containsInAnyOrder(9002)));
+        mockMvc.perform(get("/api/v1/products").param("search", "đồng hồ"))
+                .andExpect(jsonPath("$.data.content[*].id", containsInAnyOrder(9004)));
+        mockMvc.perform(get("/api/v1/products").param("search", "tủ lạnh"))
+                .andExpect(jsonPath("$.data.content", empty()));
+    }
+
+    @Test
+    void entityWritesKeepTheSearchColumn() {
+        Product product = new Product();
+        product.setName("Máy giặt Toshiba");
+        product.setPrice(Money.of(100));
+        product.setQuantity(1);
+        Long id = productRepository.save(product).getId();
+
+        assertThat(jdbc.queryForObject("SELECT normalized_name FROM products WHERE id = ?", String.class, id)).isEqualTo("may giat toshiba");
+    }
+}
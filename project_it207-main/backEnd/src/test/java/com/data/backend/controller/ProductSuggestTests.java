@@ -0,0 +1,97 @@
+package com.data.backend.controller;
+
+import com.data.backend.service.catalog.ProductChangedEvent;
+import com.data.backend.service.product.suggest.ProductSuggestService;
+import com.data.backend.support.CatalogFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProductSuggestTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private ProductSuggestService productSuggestService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogFixture fixture;
+
+    @BeforeEach
+    void seed() {
+        fixture = new CatalogFixture(jdbc).reset()
+                .category(1, "Phones", "phones")
+                .category(2, "Phụ kiện", "phu-kien")
+                .product(1, "Apple iPhone 15", 100, 1, 1L)
+                .product(2, "iPhone 15 Pro Max", 100, 1, 1L)
+                .product(3, "Ốp lưng iPhone", 100, 1, 2L)
+                .product(4, "Samsung Galaxy S24", 100, 1, 1L)
+                .user(901, "suggest")
+                .order(1, 901)
+                .item(1, 1, 5)
+                .item(1, 2, 9)
+                .item(1, 3, 1);
+        productSuggestService.rebuild();
+    }
+
+    @Test
+    void ranksWordPrefixMatchesByUnitsSold() throws Exception {
+        mockMvc.perform(get("/api/v1/products/suggest").param("q", "IPH"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].id", contains(2, 1, 3)))
+                .andExpect(jsonPath("$.data[0].type").value("PRODUCT"))
+                .andExpect(jsonPath("$.data[0].name").value("iPhone 15 Pro Max"));
+
+        mockMvc.perform(get("/api/v1/products/suggest").param("q", "iphone 15").param("limit", "1"))
+                .andExpect(jsonPath("$.data[*].id", contains(2)));
+
+        mockMvc.perform(get("/api/v1/products/suggest").param("q", "ốp"))
+                .andExpect(jsonPath("$.data[*].name", contains("Ốp lưng iPhone")));
+        mockMvc.perform(get("/api/v1/products/suggest").param("q", "op lung"))
+                .andExpect(jsonPath("$.data[*].name", contains("Ốp lưng iPhone")));
+
+        mockMvc.perform(get("/api/v1/products/suggest").param("q", "  "))
+                .andExpect(jsonPath("$.data", empty()));
+    }
+
+    @Test
+    void categoriesComeFirst() throws Exception {
+        mockMvc.perform(get("/api/v1/products/suggest").param("q", "ph"))
+                .andExpect(jsonPath("$.data[*].type", contains("CATEGORY", "CATEGORY")))
+                .andExpect(jsonPath("$.data[*].name", contains("Phones", "Phụ kiện")));
+    }
+
+    @Test
+    void committedChangesShowUpWithoutRebuild() throws Exception {
+        fixture.product(5, "iPhone 16", 100, 1, 1L).item(1, 5, 20);
+        jdbc.update("UPDATE products SET name = 'Apple Watch' WHERE id = 1");
+        eventPublisher.publishEvent(ProductChangedEvent.of(List.of(1L, 5L)));
+
+        mockMvc.perform(get("/api/v1/products/suggest").param("q", "iph"))
+                .andExpect(jsonPath("$.data[*].id", contains(5, 2, 3)));
+        mockMvc.perform(get("/api/v1/products/suggest").param("q", "wat"))
+                .andExpect(jsonPath("$.data[*].id", contains(1)));
+    }
+}
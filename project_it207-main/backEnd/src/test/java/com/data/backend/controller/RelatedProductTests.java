@@ -0,0 +1,115 @@
+package com.data.backend.controller;
+
+import com.data.backend.model.money.Money;
+import com.data.backend.service.order.OrderLine;
+import com.data.backend.service.order.OrderPlacedEvent;
+import com.data.backend.service.product.related.RelatedProductService;
+import com.data.backend.support.CatalogFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RelatedProductTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private RelatedProductService relatedProductService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    private CatalogFixture fixture;
+
+    @BeforeEach
+    void seed() {
+        fixture = new CatalogFixture(jdbc).reset().category(1, "Phones", "phones");
+        for (long id = 1; id <= 5; id++) {
+            fixture.product(id, "Product " + id, 100, 1, 1L);
+        }
+        fixture.user(902, "related");
+        order(1, 1, 2, 3);
+        order(2, 1, 2);
+        order(3, 1, 4);
+        order(4, 2, 3, 3);
+        relatedProductService.rebuild();
+    }
+
+    @Test
+    void ranksProductsByOrdersInCommon() throws Exception {
+        mockMvc.perform(get("/api/v1/products/1/related"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].id", contains(2, 3, 4)))
+                .andExpect(jsonPath("$.data[0].name").value("Product 2"));
+        mockMvc.perform(get("/api/v1/products/3/related"))
+                .andExpect(jsonPath("$.data[*].id", contains(2, 1)));
+        mockMvc.perform(get("/api/v1/products/1/related").param("limit", "1"))
+                .andExpect(jsonPath("$.data[*].id", contains(2)));
+        mockMvc.perform(get("/api/v1/products/5/related"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", empty()));
+    }
+
+    @Test
+    void placedOrdersCountWithoutRebuild() throws Exception {
+        eventPublisher.publishEvent(placed(5, 1, 4));
+        eventPublisher.publishEvent(placed(6, 4, 1, 5));
+
+        mockMvc.perform(get("/api/v1/products/1/related"))
+                .andExpect(jsonPath("$.data[*].id", contains(4, 2, 3, 5)));
+        mockMvc.perform(get("/api/v1/products/5/related"))
+                .andExpect(jsonPath("$.data[*].id", contains(1, 4)));
+    }
+
+    @Test
+    void skipsProductsThatNoLongerExist() throws Exception {
+        jdbc.update("DELETE FROM order_items WHERE product_id = 3");
+        jdbc.update("DELETE FROM products WHERE id = 3");
+
+        mockMvc.perform(get("/api/v1/products/1/related"))
+                .andExpect(jsonPath("$.data[*].id", contains(2, 4)));
+    }
+
+    @Test
+    void fullRebuildsLeaveSchedulerThreadsForOtherJobs() {
+        assertThat(taskScheduler.getScheduledThreadPoolExecutor().getCorePoolSize()).isGreaterThan(1);
+    }
+
+    private static OrderPlacedEvent placed(long orderId, long... productIds) {
+        return new OrderPlacedEvent(orderId, LocalDateTime.now(),
+                Arrays.stream(productIds).mapToObj(id -> new OrderLine(id, 1L, 1, Money.of(100))).toList());
+    }
+
+    private void order(long orderId, long... productIds) {
+        fixture.order(orderId, 902);
+        for (long productId : productIds) {
+            fixture.item(orderId, productId, 1);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.data.backend.controller;
+
+import com.data.backend.support.CatalogFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class WishlistTests {
+    private static final String SHOPPER = "wisher";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @BeforeEach
+    void seed() {
+        CatalogFixture fixture = new CatalogFixture(jdbc).reset()
+                .user(912, SHOPPER);
+        for (long id = 1; id <= 4; id++) {
+            fixture.product(id, "Product " + id, 100, 10, null);
+        }
+    }
+
+    @Test
+    void addingIgnoresDuplicatesAndUnknownProducts() throws Exception {
+        mockMvc.perform(as(post("/api/v1/wishlist/product/1"))).andExpect(status().isCreated());
+        mockMvc.perform(as(post("/api/v1/wishlist/product/1"))).andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Product is already in the wishlist."));
+        mockMvc.perform(as(post("/api/v1/wishlist/product/99"))).andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Product not found"));
+
+        mockMvc.perform(as(bulk("/api/v1/wishlist/bulk", 1, 2, 2, 3, 99)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(2));
+        assertThat(jdbc.queryForList("SELECT product_id FROM wishlists ORDER BY product_id", Long.class)).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void listingFlagsFollowCommittedWrites() throws Exception {
+        mockMvc.perform(as(bulk("/api/v1/wishlist/bulk", 2, 4))).andExpect(status().isOk());
+        mockMvc.perform(as(get("/api/v1/products").param("sort", "id")))
+                .andExpect(jsonPath("$.data.content[*].inWishlist", contains(false, true, false, true)));
+
+        mockMvc.perform(as(bulk("/api/v1/wishlist/bulk-remove", 4))).andExpect(status().isOk());
+        mockMvc.perform(as(get("/api/v1/products").param("sort", "id")))
+                .andExpect(jsonPath("$.data.content[*].inWishlist", contains(false, true, false, false)));
+    }
+
+    @Test
+    void movingToCartTakesOnlyWishlistedProducts() throws Exception {
+        mockMvc.perform(as(bulk("/api/v1/wishlist/bulk", 1, 2, 3))).andExpect(status().isOk());
+        mockMvc.perform(as(post("/api/v1/cart").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"productId\":1,\"quantity\":2}"))).andExpect(status().isOk());
+
+        mockMvc.perform(as(bulk("/api/v1/wishlist/move-to-cart", 1, 2, 4)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[*].productId", containsInAnyOrder(1, 2)))
+                .andExpect(jsonPath("$.data.items[?(@.productId == 1)].quantity", contains(3)))
+                .andExpect(jsonPath("$.data.items[?(@.productId == 2)].quantity", contains(1)));
+        assertThat(jdbc.queryForList("SELECT product_id FROM wishlists", Long.class)).containsExactly(3L);
+
+        mockMvc.perform(as(bulk("/api/v1/wishlist/move-to-cart", 1, 4))).andExpect(status().isBadRequest());
+        mockMvc.perform(as(get("/api/v1/products").param("sort", "id")))
+                .andExpect(jsonPath("$.data.content[*].inWishlist", contains(false, false, true, false)));
+    }
+
+    private MockHttpServletRequestBuilder bulk(String path, long... productIds) {
+        StringBuilder ids = new StringBuilder();
+        for (long id : productIds) {
+            ids.append(ids.isEmpty() ? "" : ",").append(id);
+        }
+        return post(path).contentType(MediaType.APPLICATION_JSON).content("{\"productIds\":[" + ids + "]}");
+    }
+
+    private MockHttpServletRequestBuilder as(MockHttpServletRequestBuilder request) {
+        return request.with(user(userDetailsService.loadUserByUsername(SHOPPER)));
+    }
+}
@@ -0,0 +1,72 @@
+package com.data.backend.metrics.query;
+
+import com.data.backend.support.CatalogFixture;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.data.backend.support.QueryBudget.queryCount;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Locks in the statement count of the public read endpoints; a change here is an N+1 regression (or fix).
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QueryBudgetTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void seed() {
+        new CatalogFixture(jdbc).reset()
+                .category(1, "Phones", "phones")
+                .category(2, "Laptops", "laptops")
+                .product(1, "Phone A", 100, 5, 1L)
+                .product(2, "Phone B", 200, 5, 1L)
+                .product(3, "Laptop A", 900, 5, 2L);
+        // Seeded behind Hibernate's back, so start every test with a cold second-level cache.
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void productListing() throws Exception {
+        mockMvc.perform(get("/api/v1/products"))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(3));
+    }
+
+    @Test
+    void productDetails() throws Exception {
+        mockMvc.perform(get("/api/v1/products/1"))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(2));
+    }
+
+    @Test
+    void productDetailsFromSecondLevelCache() throws Exception {
+        mockMvc.perform(get("/api/v1/products/1")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/products/1"))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(0));
+    }
+
+    @Test
+    void productComments() throws Exception {
+        mockMvc.perform(get("/api/v1/comments/product/1"))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(2));
+    }
+}
@@ -0,0 +1,61 @@
+package com.data.backend.model.money;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTests {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void roundsHalfUpToMinorUnits() {
+        assertThat(Money.of(new BigDecimal("1.005")).getMinorUnits()).isEqualTo(101);
+        assertThat(Money.of(new BigDecimal("1.0049")).getMinorUnits()).isEqualTo(100);
+        assertThat(Money.of(new BigDecimal("-1.005")).getMinorUnits()).isEqualTo(-101);
+        assertThat(Money.of(new BigDecimal("12")).toBigDecimal()).isEqualByComparingTo("12.00");
+        // Doubles go through their shortest decimal form, not their binary expansion (1.005 is 1.00499999...)
+        assertThat(Money.of(1.005).getMinorUnits()).isEqualTo(101);
+        assertThat(Money.of(0.1 + 0.2).getMinorUnits()).isEqualTo(30);
+        assertThat(Money.of(BigDecimal.ZERO)).isSameAs(Money.ZERO);
+    }
+
+    @Test
+    void arithmeticIsExact() {
+        assertThat(Money.of(19.99).times(3)).isEqualTo(Money.ofMinor(5997));
+        assertThat(Money.of(0.1).plus(Money.of(0.2))).isEqualTo(Money.of(0.3));
+        assertThat(Money.ofMinor(-1).isNegative()).isTrue();
+        assertThat(Money.ofMinor(250)).isGreaterThan(Money.ofMinor(249)).hasToString("2.50");
+
+        assertThatThrownBy(() -> Money.ofMinor(Long.MAX_VALUE).times(2)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofMinor(Long.MAX_VALUE).plus(Money.ofMinor(1))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1e30"))).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void jsonCarriesTheExactDecimal() throws Exception {
+        // 2^53 + 1 minor units: a double would round the last digit away
+        Money large = Money.ofMinor(9_007_199_254_740_993L);
+        assertThat(objectMapper.writeValueAsString(Map.of("price", large))).isEqualTo("{\"price\":90071992547409.93}");
+        assertThat(objectMapper.writeValueAsString(Map.of("price", Money.ofMinor(1000)))).isEqualTo("{\"price\":10.00}");
+
+        assertThat(objectMapper.readValue("\"90071992547409.93\"", Money.class)).isEqualTo(large);
+        assertThat(objectMapper.readValue("19.995", Money.class)).isEqualTo(Money.ofMinor(2000));
+    }
+
+    @Test
+    void converterMapsToDecimalColumns() {
+        MoneyConverter converter = new MoneyConverter();
+
+        assertThat(converter.convertToDatabaseColumn(Money.ofMinor(12345))).isEqualTo(new BigDecimal("123.45"));
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("123.45"))).isEqualTo(Money.ofMinor(12345));
+        // Columns with a wider scale round like Money.of
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("0.0050"))).isEqualTo(Money.ofMinor(1));
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}
@@ -0,0 +1,69 @@
+package com.data.backend.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "rate_limit_enabled=true",
+        "rate_limit_policies=GET /api/v1/products/** 2/1h"
+})
+class RateLimitFilterTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void rejectsOverLimitWithRetryAfter() throws Exception {
+        mockMvc.perform(get("/api/v1/products").with(from("10.0.0.1"))).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/products").with(from("10.0.0.1"))).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/products").with(from("10.0.0.1")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1800"))
+                .andExpect(jsonPath("$.status").value(429));
+
+        // Other clients and unmatched routes are unaffected
+        mockMvc.perform(get("/api/v1/products").with(from("10.0.0.2"))).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/categories").with(from("10.0.0.1"))).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void bucketRefillsAndIsSweptWhenIdle() {
+        RateLimitPolicy policy = RateLimitPolicy.parse("POST /api/v1/auth/** 3/3s");
+        long second = Duration.ofSeconds(1).toNanos();
+
+        assertThat(policy.acquire("a", 0)).isZero();
+        assertThat(policy.acquire("a", 0)).isZero();
+        assertThat(policy.acquire("a", 0)).isZero();
+        assertThat(policy.acquire("a", 0)).isEqualTo(second);
+        assertThat(policy.acquire("a", second)).isZero();
+
+        assertThat(policy.sweep(2 * second)).isZero();
+        assertThat(policy.sweep(4 * second)).isEqualTo(1);
+        assertThat(policy.getBuckets()).isEmpty();
+    }
+
+    private static RequestPostProcessor from(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
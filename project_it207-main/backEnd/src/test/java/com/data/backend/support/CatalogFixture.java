@@ -0,0 +1,95 @@
+package com.data.backend.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+// Catalog, order and cart rows written straight through JDBC. Suites share one database, so each starts from reset(),
+// which clears everything any suite writes (children before parents); test users take ids from FIRST_USER_ID up.
+public final class CatalogFixture {
+    public static final long FIRST_USER_ID = 900;
+
+    private static final List<String> TABLES = List.of("order_tracking", "order_items", "orders", "cart_items", "carts",
+            "wishlists", "addresses", "comments", "sales_rollups", "product_rank_buckets", "products", "categories");
+
+    private final JdbcTemplate jdbc;
+    private long nextItemId = 1;
+    private long nextTrackingId = 1;
+
+    public CatalogFixture(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public CatalogFixture reset() {
+        TABLES.forEach(table -> jdbc.update("DELETE FROM " + table));
+        jdbc.update("DELETE FROM users WHERE id >= ?", FIRST_USER_ID);
+        nextItemId = 1;
+        nextTrackingId = 1;
+        return this;
+    }
+
+    public CatalogFixture category(long id, String name, String url) {
+        jdbc.update("INSERT INTO categories (id, name, category_url) VALUES (?, ?, ?)", id, name, url);
+        return this;
+    }
+
+    public CatalogFixture product(long id, String name, Number price, int quantity, Long categoryId) {
+        jdbc.update("INSERT INTO products (id, name, description, price, quantity, category_id, image_url, created_at, updated_at) " +
+                "VALUES (?, ?, 'd', ?, ?, ?, 'x.png', NOW(), NOW())", id, name, price, quantity, categoryId);
+        return this;
+    }
+
+    public CatalogFixture product(long id, String name, String description, Number price, int quantity, Long categoryId,
+                                  String imageUrl, String createdAt) {
+        jdbc.update("INSERT INTO products (id, name, description, price, quantity, category_id, image_url, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", id, name, description, price, quantity, categoryId, imageUrl, createdAt, createdAt);
+        return this;
+    }
+
+    public CatalogFixture user(long id, String username) {
+        jdbc.update("INSERT INTO users (id, username, email, password, is_active) VALUES (?, ?, ?, 'x', TRUE)",
+                id, username, username + "@x.vn");
+        return this;
+    }
+
+    public CatalogFixture address(long id, long userId, boolean isDefault) {
+        jdbc.update("INSERT INTO addresses (id, user_id, label, full_address, is_default) VALUES (?, ?, 'Home', 'x', ?)",
+                id, userId, isDefault);
+        return this;
+    }
+
+    public CatalogFixture order(long id, long userId) {
+        jdbc.update("INSERT INTO orders (id, user_id, order_date, total_amount) VALUES (?, ?, NOW(), 0)", id, userId);
+        return this;
+    }
+
+    public CatalogFixture order(long id, long userId, String orderDate) {
+        jdbc.update("INSERT INTO orders (id, user_id, order_date, total_amount) VALUES (?, ?, ?, 0)", id, userId, orderDate);
+        return this;
+    }
+
+    // Sold at the product's current price, which is added to the order total.
+    public CatalogFixture item(long orderId, long productId, int quantity) {
+        jdbc.update("INSERT INTO order_items (id, order_id, product_id, quantity, price_per_unit) " +
+                "SELECT ?, ?, id, ?, price FROM products WHERE id = ?", nextItemId++, orderId, quantity, productId);
+        jdbc.update("UPDATE orders SET total_amount = total_amount + " +
+                "(SELECT price * ? FROM products WHERE id = ?) WHERE id = ?", quantity, productId, orderId);
+        return this;
+    }
+
+    public CatalogFixture cancel(long orderId) {
+        jdbc.update("INSERT INTO order_tracking (id, order_id, status, location, timestamp) VALUES (?, ?, 'CANCELLED', 'x', NOW())",
+                nextTrackingId++, orderId);
+        return this;
+    }
+
+    public CatalogFixture cart(long id, long userId, String updatedAt) {
+        jdbc.update("INSERT INTO carts (id, user_id, updated_at) VALUES (?, ?, ?)", id, userId, updatedAt);
+        return this;
+    }
+
+    public CatalogFixture cartItem(long cartId, long productId, int quantity) {
+        jdbc.update("INSERT INTO cart_items (cart_id, product_id, quantity) VALUES (?, ?, ?)", cartId, productId, quantity);
+        return this;
+    }
+}
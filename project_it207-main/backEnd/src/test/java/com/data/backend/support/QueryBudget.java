@@ -0,0 +1,45 @@
+package com.data.backend.support;
+
+import com.data.backend.metrics.query.QueryStats;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Assertions over the statements counted by QueryStats, for MockMvc calls and plain service calls.
+public final class QueryBudget {
+    private QueryBudget() {
+    }
+
+    public static ResultMatcher queryCount(int expected) {
+        return result -> assertEquals(expected, headerCount(result.getResponse().getHeader(QueryStats.COUNT_HEADER)),
+                "statements for " + result.getRequest().getRequestURI());
+    }
+
+    public static ResultMatcher queryCountAtMost(int max) {
+        return result -> {
+            int actual = headerCount(result.getResponse().getHeader(QueryStats.COUNT_HEADER));
+            assertTrue(actual <= max, "statements for " + result.getRequest().getRequestURI() + ": " + actual + " > " + max);
+        };
+    }
+
+    public static void assertQueryCount(int expected, Runnable action) {
+        assertEquals(expected, count(action));
+    }
+
+    public static int count(Runnable action) {
+        QueryStats stats = QueryStats.start();
+        try {
+            action.run();
+        } finally {
+            QueryStats.clear();
+        }
+        return stats.getCount();
+    }
+
+    private static int headerCount(String header) {
+        assertNotNull(header, QueryStats.COUNT_HEADER + " header missing");
+        return Integer.parseInt(header);
+    }
+}
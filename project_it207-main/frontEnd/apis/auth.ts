@@ -17,7 +17,7 @@ type APIResponse<T> = {
   success: boolean;
   message: string;
   data: T;
-  status: string;
+  status: number;
 };
 
 type JWTResponse = {
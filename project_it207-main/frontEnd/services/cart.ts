@@ -4,7 +4,7 @@ type APIResponse<T> = {
   success: boolean;
   message: string;
   data: T;
-  status: string;
+  status: number;
 };
 
 export interface CartItem {
@@ -5,13 +5,25 @@ type APIResponse<T> = {
   success: boolean;
   message: string;
   data: T;
-  status: string;
+  status: number;
+};
+
+type PageResponse<T> = {
+  content: T[];
+  totalElements: number;
+  totalPages: number;
+  size: number;
+  number: number;
+  first: boolean;
+  last: boolean;
 };
 
 export const categoryService = {
   async getAll(): Promise<Category[]> {
-    const res = await axiosInstance.get<APIResponse<Category[]>>('/categories');
-    return res.data.data || [];
+    const res = await axiosInstance.get<APIResponse<PageResponse<Category>>>('/categories', {
+      params: { size: 100 },
+    });
+    return res.data.data?.content || [];
   },
 
   async getById(id: string | number): Promise<Category> {
@@ -8,6 +8,26 @@ export interface ProductQueryParams {
   search?: string;
   sortBy?: string;
   order?: 'asc' | 'desc';
+  categoryIds?: number[];
+  minPrice?: number;
+  maxPrice?: number;
+  inStock?: boolean;
+  ranking?: ProductRanking;
+}
+
+export type ProductRanking = 'bestselling' | 'trending';
+
+export interface Suggestion {
+  type: 'CATEGORY' | 'PRODUCT';
+  id: number;
+  name: string;
+}
+
+export interface ProductFacets {
+  total: number;
+  inStock: number;
+  categories: { id: number; name: string; count: number }[];
+  prices: { min: number; max: number | null; count: number }[];
 }
 
 export interface ProductResponse {
@@ -21,7 +41,7 @@ type APIResponse<T> = {
   success: boolean;
   message: string;
   data: T;
-  status: string;
+  status: number;
 };
 
 type PageResponse<T> = {
@@ -30,8 +50,17 @@ type PageResponse<T> = {
   totalPages: number;
   size: number;
   number: number;
+  first: boolean;
+  last: boolean;
 };
 
+const facetParams = (params?: ProductQueryParams) => ({
+  ...(params?.categoryIds?.length && { categoryId: params.categoryIds }),
+  ...(params?.minPrice != null && { minPrice: params.minPrice }),
+  ...(params?.maxPrice != null && { maxPrice: params.maxPrice }),
+  ...(params?.inStock && { inStock: true }),
+});
+
 export const productService = {
   async getAll(params?: ProductQueryParams): Promise<ProductResponse> {
     try {
@@ -45,7 +74,10 @@ export const productService = {
           ...(params?.search && { search: params.search }),
           ...(params?.sortBy && { sortBy: params.sortBy }),
           ...(params?.order && { order: params.order }),
+          ...(params?.ranking && { sort: params.ranking }),
+          ...facetParams(params),
         },
+        paramsSerializer: { indexes: null },
       });
       
       console.log('API Response:', JSON.stringify(res.data, null, 2));
@@ -105,6 +137,35 @@ export const productService = {
     }
   },
 
+  async getFacets(params?: ProductQueryParams): Promise<ProductFacets> {
+    const res = await axiosInstance.get<APIResponse<ProductFacets>>('/products/facets', {
+      params: {
+        ...(params?.search && { search: params.search }),
+        ...facetParams(params),
+      },
+      paramsSerializer: { indexes: null },
+    });
+    return res.data.data;
+  },
+
+  async suggest(q: string, limit = 8): Promise<Suggestion[]> {
+    if (!q.trim()) {
+      return [];
+    }
+    const res = await axiosInstance.get<APIResponse<Suggestion[]>>('/products/suggest', { params: { q, limit } });
+    return res.data.data;
+  },
+
+  async getTop(by: ProductRanking = 'bestselling', limit = 10): Promise<Product[]> {
+    const res = await axiosInstance.get<APIResponse<Product[]>>('/products/top', { params: { by, limit } });
+    return res.data.data;
+  },
+
+  async getRelated(id: number, limit = 10): Promise<Product[]> {
+    const res = await axiosInstance.get<APIResponse<Product[]>>(`/products/${id}/related`, { params: { limit } });
+    return res.data.data;
+  },
+
   async getById(id: string | number): Promise<Product> {
     const res = await axiosInstance.get<APIResponse<Product>>(`/products/${id}`);
     return res.data.data;
@@ -1,4 +1,5 @@
 import axios from "axios";
+import { installEtagCache } from "./etag-cache";
 
 export const axiosInstance = axios.create({
   baseURL: "http://192.168.1.233:8080/api/v1/",
@@ -6,4 +7,6 @@ export const axiosInstance = axios.create({
     "Content-Type": "application/json",
   },
   timeout: 1000000,
-});
\ No newline at end of file
+});
+
+installEtagCache(axiosInstance);
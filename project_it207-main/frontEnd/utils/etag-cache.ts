@@ -0,0 +1,51 @@
+import type { AxiosInstance, AxiosResponse, InternalAxiosRequestConfig } from "axios";
+
+// Remembers the last ETag + body per GET url (and auth header) so repeat views revalidate with
+// If-None-Match and a 304 is answered from memory.
+const MAX_ENTRIES = 200;
+
+type Entry = { etag: string; data: unknown };
+
+const entries = new Map<string, Entry>();
+
+const keyOf = (instance: AxiosInstance, config: InternalAxiosRequestConfig) =>
+  `${config.headers?.Authorization ?? ""}|${instance.getUri(config)}`;
+
+export const installEtagCache = (instance: AxiosInstance) => {
+  instance.interceptors.request.use((config) => {
+    if ((config.method ?? "get").toLowerCase() !== "get") return config;
+    const cached = entries.get(keyOf(instance, config));
+    if (cached) {
+      config.headers.set("If-None-Match", cached.etag);
+      config.validateStatus = (status) => (status >= 200 && status < 300) || status === 304;
+    }
+    return config;
+  });
+
+  instance.interceptors.response.use((response: AxiosResponse) => {
+    const config = response.config;
+    if ((config.method ?? "get").toLowerCase() !== "get") return response;
+    const key = keyOf(instance, config);
+    if (response.status === 304) {
+      const cached = entries.get(key);
+      if (cached) {
+        // Refresh recency, then hand back the body we already have.
+        entries.delete(key);
+        entries.set(key, cached);
+        return { ...response, status: 200, data: cached.data };
+      }
+      return response;
+    }
+    const etag = response.headers["etag"];
+    if (etag) {
+      entries.delete(key);
+      entries.set(key, { etag, data: response.data });
+      if (entries.size > MAX_ENTRIES) {
+        entries.delete(entries.keys().next().value as string);
+      }
+    }
+    return response;
+  });
+};
+
+export const clearEtagCache = () => entries.clear();